@@ -154,6 +154,17 @@ public class MessageKeys {
     public static final String[] SPAWNER_PROTECTION = { "spawner-protection" };
     
     public static final String[] MESSAGE_ARENA_BUSY = {"message-arena-busy"};
+
+    public static final String[] TIMINGS_NOT_ENABLED = {"timings", "not-enabled"};
+    public static final String[] TIMINGS_EMPTY = {"timings", "empty"};
+    public static final String[] TIMINGS_SECTION = {"timings", "section"};
+    public static final String[] TIMINGS_ARENA_SECTION = {"timings", "arena-section"};
+    public static final String[] TIMINGS_TOGGLED_ON = {"timings", "toggled-on"};
+    public static final String[] TIMINGS_TOGGLED_OFF = {"timings", "toggled-off"};
+    public static final String[] TIMINGS_RESET = {"timings", "reset"};
+
+    public static final String[] AI_STATS = {"ai", "stats"};
+    public static final String[] AI_SCHEDULER_NOT_RUNNING = {"ai", "scheduler-not-running"};
     
 };
 
@@ -12,6 +12,7 @@ import java.util.List;
 
 /**
  * Represents the data of game player.
+ * Counters are written on the server thread and may be read from any thread.
  */
 @RequiredArgsConstructor(access = AccessLevel.PUBLIC, staticName = "of")
 @Data
@@ -24,22 +25,22 @@ public class GamePlayerData {
     /**
      * Current number of kills of game player.
      */
-    private int kills;
+    private volatile int kills;
 
     /**
      * Current number of deaths of game player.
      */
-    private int deaths;
+    private volatile int deaths;
 
     /**
      * Current number of final kills of game player.
      */
-    private int finalKills;
+    private volatile int finalKills;
 
     /**
      * Current number of bed destroys of game player.
      */
-    private int bedDestroys;
+    private volatile int bedDestroys;
 
     /**
      * Stored inventory of the game player, contains armour, tools, persistent items etc.
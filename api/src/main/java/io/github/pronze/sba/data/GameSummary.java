@@ -0,0 +1,130 @@
+package io.github.pronze.sba.data;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable summary of the statistics of a game, computed in a single pass over the player data.
+ * Used for the end of game message and available to placeholders or leaderboards.
+ */
+public class GameSummary {
+    private final List<Killer> topKillers;
+    private final int totalKills;
+    private final int totalFinalKills;
+    private final int totalDeaths;
+    private final int totalBedDestroys;
+
+    private GameSummary(List<Killer> topKillers, int totalKills, int totalFinalKills, int totalDeaths,
+                        int totalBedDestroys) {
+        this.topKillers = topKillers;
+        this.totalKills = totalKills;
+        this.totalFinalKills = totalFinalKills;
+        this.totalDeaths = totalDeaths;
+        this.totalBedDestroys = totalBedDestroys;
+    }
+
+    /**
+     * Summarizes the given player data.
+     *
+     * @param playerData the data of the players of the game
+     * @param limit      the maximum number of top killers to keep
+     * @return the summary of the game
+     */
+    @NotNull
+    public static GameSummary of(@NotNull Map<UUID, GamePlayerData> playerData, int limit) {
+        final var ids = new UUID[Math.max(0, limit)];
+        final var names = new String[ids.length];
+        final var scores = new int[ids.length];
+        int size = 0;
+        int totalKills = 0;
+        int totalFinalKills = 0;
+        int totalDeaths = 0;
+        int totalBedDestroys = 0;
+
+        for (var entry : playerData.entrySet()) {
+            final var data = entry.getValue();
+            final int kills = data.getKills();
+            totalKills += kills;
+            totalFinalKills += data.getFinalKills();
+            totalDeaths += data.getDeaths();
+            totalBedDestroys += data.getBedDestroys();
+
+            if (kills <= 0 || ids.length == 0 || (size == ids.length && kills <= scores[size - 1])) {
+                continue;
+            }
+            // players with the same amount of kills keep their encounter order
+            int index = size == ids.length ? size - 1 : size++;
+            while (index > 0 && scores[index - 1] < kills) {
+                ids[index] = ids[index - 1];
+                names[index] = names[index - 1];
+                scores[index] = scores[index - 1];
+                index--;
+            }
+            ids[index] = entry.getKey();
+            names[index] = data.getName();
+            scores[index] = kills;
+        }
+
+        final var killers = new ArrayList<Killer>(size);
+        for (int i = 0; i < size; i++) {
+            killers.add(new Killer(ids[i], names[i], scores[i]));
+        }
+        return new GameSummary(Collections.unmodifiableList(killers), totalKills, totalFinalKills, totalDeaths,
+                totalBedDestroys);
+    }
+
+    /**
+     * @return the players with the most kills, highest first, only players with at least one kill are listed
+     */
+    @NotNull
+    public List<Killer> getTopKillers() {
+        return topKillers;
+    }
+
+    public int getTotalKills() {
+        return totalKills;
+    }
+
+    public int getTotalFinalKills() {
+        return totalFinalKills;
+    }
+
+    public int getTotalDeaths() {
+        return totalDeaths;
+    }
+
+    public int getTotalBedDestroys() {
+        return totalBedDestroys;
+    }
+
+    public static class Killer {
+        private final UUID uuid;
+        private final String name;
+        private final int kills;
+
+        private Killer(UUID uuid, String name, int kills) {
+            this.uuid = uuid;
+            this.name = name;
+            this.kills = kills;
+        }
+
+        @NotNull
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        public int getKills() {
+            return kills;
+        }
+    }
+}
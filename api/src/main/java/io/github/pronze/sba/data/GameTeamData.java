@@ -3,10 +3,11 @@ package io.github.pronze.sba.data;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.bukkit.Location;
@@ -16,6 +17,7 @@ import org.screamingsandals.bedwars.api.Team;
 
 /**
  * Represents the data of a team.
+ * Fields are written on the server thread and may be read from any thread.
  */
 @RequiredArgsConstructor(access = AccessLevel.PUBLIC, staticName = "of")
 @Data
@@ -24,57 +26,63 @@ public class GameTeamData {
      * Current level of sharpness for the team.
      * Enchant applied is {@link org.bukkit.enchantments.Enchantment#DAMAGE_ALL}
      */
-    private int sharpness;
+    private volatile int sharpness;
 
     /**
      * Current level of protection for the team.
      * Enchant applied is
      * {@link org.bukkit.enchantments.Enchantment#PROTECTION_ENVIRONMENTAL}
      */
-    private int protection;
+    private volatile int protection;
 
     /**
      * Current level of efficiency for the team.
      * Enchant applied is {@link org.bukkit.enchantments.Enchantment#DIG_SPEED}
      */
-    private int efficiency;
+    private volatile int efficiency;
 
     /**
      * Current level of efficiency for the team.
      * Enchant applied is {@link org.bukkit.enchantments.Enchantment#KNOCKBACK}
      */
-    private int knockback;
+    private volatile int knockback;
 
     /**
      * A boolean representing whether the team has purchased the Heal Pool upgrade
      * from the Upgrades store.
      */
-    private boolean purchasedPool;
+    private volatile boolean purchasedPool;
 
     /**
      * A boolean representing whether the team has purchased the Blind Trap upgrade
      * from the Upgrades store.
      */
-    private boolean purchasedBlindTrap;
+    private volatile boolean purchasedBlindTrap;
 
     /**
      * A boolean representing whether the team has purchased the Miner Trap upgrade
      * from the Upgrades store.
      */
-    private boolean purchasedMinerTrap;
+    private volatile boolean purchasedMinerTrap;
 
     /**
      * A boolean representing whether the team has purchased the Dragon upgrade from
      * the Upgrades store.
      */
-    private boolean purchasedDragonUpgrade;
+    private volatile boolean purchasedDragonUpgrade;
 
     /**
      * Location of the target block of the team.
      */
     private final Location targetBlockLoc;
 
-    private Map<String,Boolean> isPurchased=new HashMap<>();
+    private Map<String,Boolean> isPurchased=new ConcurrentHashMap<>();
+
+    /**
+     * Incremented every time an upgrade or a trap of the team changes.
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile int upgradeVersion;
 
     /**
      * Constructs a new GameTeamData instance.
@@ -86,12 +94,14 @@ public class GameTeamData {
         return new GameTeamData(team.getTargetBlock());
     }
 
-    private Map<String, Integer> enchantLevel = new HashMap<>();
+    private Map<String, Integer> enchantLevel = new ConcurrentHashMap<>();
+
+    public void markUpgraded() {
+        upgradeVersion++;
+    }
 
     public Integer get(String propertyName) {
-        if (enchantLevel.containsKey(propertyName))
-            return enchantLevel.get(propertyName);
-        return 0;
+        return enchantLevel.getOrDefault(propertyName, 0);
     }
 
     public void set(String propertyName, @NotNull Integer level) {
@@ -103,7 +113,7 @@ public class GameTeamData {
     }
 
     public boolean isPuchased(String trap_identifier) {
-        return isPurchased.get(trap_identifier)!=null && isPurchased.get(trap_identifier).booleanValue();
+        return isPurchased.getOrDefault(trap_identifier, false);
     }
 
     public Iterable<String> getEnabledTraps() {
@@ -1,10 +1,12 @@
 package io.github.pronze.sba.game;
 
 import io.github.pronze.sba.data.GamePlayerData;
+import io.github.pronze.sba.data.GameSummary;
 import io.github.pronze.sba.game.tasks.BaseGameTask;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.screamingsandals.bedwars.api.RunningTeam;
 import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.bedwars.api.game.GameStore;
 import org.screamingsandals.bedwars.game.ItemSpawner;
@@ -18,6 +20,12 @@ import java.util.UUID;
 
 /**
  * Represents an arena implementation.
+ * <p>
+ * Threading model: the arena is mutated on the server thread only, from BedWars event handlers and the game task
+ * pipeline. Getters are safe to call from any thread, returned collections are either snapshots or unmodifiable views
+ * of concurrent collections, and may reflect changes made after they were obtained. Read-only work such as scoreboard
+ * composition or placeholder rendering can therefore run on worker threads, while anything touching Bukkit entities
+ * must still be handed back to the server thread.
  */
 public interface IArena {
 
@@ -68,6 +76,15 @@ public interface IArena {
      */
     void unregisterPlayerData(@NotNull UUID uuid);
 
+    /**
+     * Summarizes the statistics of the players registered in the arena.
+     *
+     * @param topKillers the maximum number of top killers to include
+     * @return a snapshot of the statistics of the game
+     */
+    @NotNull
+    GameSummary getSummary(int topKillers);
+
     /**
      * Gets whether the player is hidden from game players or not.
      *
@@ -98,6 +115,26 @@ public interface IArena {
     @NotNull
     List<Player> getInvisiblePlayers();
 
+    /**
+     * Gets the non spectating players of other teams that are within trap detection range of the team's target block.
+     * Unlike the other getters this must be called from the server thread.
+     *
+     * @param team the team whose base should be queried
+     * @return a list of enemy players near the base, empty if there are none
+     */
+    @NotNull
+    List<Player> getEnemiesNearBase(@NotNull RunningTeam team);
+
+    /**
+     * Gets the non spectating players of the team that are within trap detection range of the team's target block.
+     * Unlike the other getters this must be called from the server thread.
+     *
+     * @param team the team whose base should be queried
+     * @return a list of team members near the base, empty if there are none
+     */
+    @NotNull
+    List<Player> getTeammatesNearBase(@NotNull RunningTeam team);
+
     /**
      * Creates a floating generator above the location of spawner. This generator is upgradable.
      *
@@ -8,6 +8,9 @@ import java.util.Optional;
 
 /**
  * Represents a GameStorage implementation.
+ * <p>
+ * Upgrades are written on the server thread, queries may be issued from any thread and always observe the latest
+ * written value of each upgrade.
  */
 public interface IGameStorage {
 
@@ -161,5 +164,13 @@ public interface IGameStorage {
 
     Iterable<String> enabledTraps(RunningTeam team);
 
+    /**
+     * Gets a counter which changes every time an upgrade or a trap of the team is set, allowing callers to cache
+     * anything derived from the upgrades of a team.
+     * @param team the team instance to query
+     * @return the current upgrade version of the team, 0 if the team has not been registered
+     */
+    int getUpgradeVersion(@NotNull RunningTeam team);
+
    
 }
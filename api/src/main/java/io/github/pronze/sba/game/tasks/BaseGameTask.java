@@ -1,16 +1,22 @@
 package io.github.pronze.sba.game.tasks;
 
+import io.github.pronze.sba.AddonAPI;
 import io.github.pronze.sba.game.IArena;
 import lombok.Data;
 import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.bedwars.api.game.GameStatus;
-import org.screamingsandals.lib.tasker.DefaultThreads;
-import org.screamingsandals.lib.tasker.Tasker;
 import org.screamingsandals.lib.tasker.TaskerTime;
-import org.screamingsandals.lib.tasker.task.Task;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Represents a phase of the arena tick pipeline.
+ * Tasks do not own a scheduler entry, they are driven by the {@link io.github.pronze.sba.manager.IGameTaskManager}
+ * which runs every phase of every arena in a single scheduled pass.
+ * As a consequence the {@code getTask()} and {@code setTask(Task)} accessors of earlier versions have been removed,
+ * {@link #start(IArena)} and {@link #stop()} remain the way to control a task.
+ */
 @Data
 public abstract class BaseGameTask {
     private final UUID uuid;
@@ -18,7 +24,10 @@ public abstract class BaseGameTask {
     protected Game game;
     private long duration;
     private TaskerTime timeUnit;
-    private Task task;
+    /**
+     * Position of the task in the pipeline, lower values run first.
+     */
+    private int order;
     private boolean started;
 
     public BaseGameTask() {
@@ -27,30 +36,60 @@ public abstract class BaseGameTask {
         this.duration = 1L;
     }
 
+    /**
+     * Starts running the task for the arena, restarting it if it is already running.
+     *
+     * @param arena the arena to run the task for
+     * @return this task
+     */
     public BaseGameTask start(IArena arena) {
         this.arena = arena;
         this.game = arena.getGame();
-        if (task != null) {
-            task.cancel();
-        }
-        task = Tasker.runRepeatedly(DefaultThreads.GLOBAL_THREAD, this::loopLogic, duration, timeUnit);
+        this.started = true;
+        AddonAPI.getInstance().getGameTaskManager().schedule(this);
         return this;
     }
 
     public void stop() {
-        if (task != null) {
-            task.cancel();
+        started = false;
+    }
+
+    /**
+     * Gets the period of this task in ticks, converted from {@link #getDuration()} and {@link #getTimeUnit()}.
+     *
+     * @return the amount of ticks between two runs of this task, at least one
+     * @throws UnsupportedOperationException if the time unit has no fixed length in ticks
+     */
+    public long getPeriodTicks() {
+        if (timeUnit == TaskerTime.TICKS) {
+            return Math.max(1L, duration);
+        }
+        final TimeUnit unit;
+        try {
+            unit = TimeUnit.valueOf(timeUnit.name());
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedOperationException("Unsupported time unit for game tasks: " + timeUnit);
         }
-        task = null;
+        return Math.max(1L, unit.toMillis(duration) / 50L);
+    }
+
+    /**
+     * Returns whether the task has anything to do in the current pass, the phase is skipped otherwise.
+     *
+     * @return true if {@link #run()} should be invoked, false otherwise
+     */
+    public boolean shouldRun() {
+        return true;
     }
 
     public void loopLogic() {
         if (game.getStatus() != GameStatus.RUNNING) {
-            task.cancel();
-            task = null;
+            stop();
             return;
         }
-        run();
+        if (shouldRun()) {
+            run();
+        }
     }
 
     public abstract void run();
@@ -0,0 +1,135 @@
+package io.github.pronze.sba.lang;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message parsed once into literal text and placeholder slots.
+ * Placeholders are declared when the template is compiled and values are passed to {@link #render(int, String...)}
+ * in the same order, placeholders which were not declared are kept as literal text.
+ */
+public class MessageTemplate {
+    private final String[] placeholders;
+    private final List<Line> lines;
+    private final StringBuilder builder = new StringBuilder();
+
+    private MessageTemplate(String[] placeholders, List<Line> lines) {
+        this.placeholders = placeholders;
+        this.lines = lines;
+    }
+
+    /**
+     * Compiles the given lines.
+     *
+     * @param lines        the legacy formatted lines of the message
+     * @param placeholders the placeholders to resolve when rendering, including the surrounding '%'
+     * @return the compiled template
+     */
+    @NotNull
+    public static MessageTemplate compile(@NotNull List<String> lines, @NotNull String... placeholders) {
+        final var compiled = new ArrayList<Line>(lines.size());
+        for (var line : lines) {
+            compiled.add(Line.parse(line, placeholders));
+        }
+        return new MessageTemplate(placeholders.clone(), List.copyOf(compiled));
+    }
+
+    public int size() {
+        return lines.size();
+    }
+
+    /**
+     * @return the index of the placeholder in the values passed to the render methods, -1 if it was not declared
+     */
+    public int indexOf(@NotNull String placeholder) {
+        for (int i = 0; i < placeholders.length; i++) {
+            if (placeholders[i].equals(placeholder)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Renders a single line of the template.
+     *
+     * @param line   the index of the line
+     * @param values the values of the declared placeholders, in declaration order
+     * @return the rendered line
+     */
+    @NotNull
+    public synchronized String render(int line, @NotNull String... values) {
+        builder.setLength(0);
+        lines.get(line).render(builder, values);
+        return builder.toString();
+    }
+
+    /**
+     * Renders every line of the template.
+     *
+     * @param values the values of the declared placeholders, in declaration order
+     * @return the rendered lines
+     */
+    @NotNull
+    public List<String> renderAll(@NotNull String... values) {
+        final var rendered = new ArrayList<String>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            rendered.add(render(i, values));
+        }
+        return rendered;
+    }
+
+    private static class Line {
+        /**
+         * Literal text preceding each slot, the last element is the trailing text of the line.
+         */
+        private final String[] literals;
+        private final int[] slots;
+
+        private Line(String[] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        private static Line parse(String line, String[] placeholders) {
+            final var literals = new ArrayList<String>();
+            final var slots = new ArrayList<Integer>();
+            int literalStart = 0;
+            int i = 0;
+            while (i < line.length()) {
+                final int start = line.indexOf('%', i);
+                if (start < 0) {
+                    break;
+                }
+                int slot = -1;
+                for (int p = 0; p < placeholders.length; p++) {
+                    if (line.startsWith(placeholders[p], start)) {
+                        slot = p;
+                        break;
+                    }
+                }
+                if (slot < 0) {
+                    i = start + 1;
+                    continue;
+                }
+                literals.add(line.substring(literalStart, start));
+                slots.add(slot);
+                i = literalStart = start + placeholders[slot].length();
+            }
+            literals.add(line.substring(literalStart));
+            return new Line(literals.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private void render(StringBuilder builder, String[] values) {
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(literals[i]);
+                if (slots[i] < values.length && values[slots[i]] != null) {
+                    builder.append(values[slots[i]]);
+                }
+            }
+            builder.append(literals[slots.length]);
+        }
+    }
+}
@@ -18,4 +18,11 @@ public interface IGameTaskManager {
      * @return A list containing all the tasks initialized for the game
      */
     List<BaseGameTask> startTasks(@NotNull IArena arena);
+
+    /**
+     * Adds an already started task to the tick pipeline shared by all arenas, called by
+     * {@link BaseGameTask#start(IArena)}. The first run happens one period after scheduling.
+     * @param task the task to schedule, it is dropped from the pipeline once stopped
+     */
+    void schedule(@NotNull BaseGameTask task);
 }
@@ -43,6 +43,7 @@ public class Scoreboard {
     private boolean animationTaskRunning;
     private org.screamingsandals.lib.player.Player player;
     private List<String> lines;
+    private List<String> sourceLines;
     private PlaceholderFunction papiFunction;
     private final HashMap<String, Object> persistentPlaceholders;
 
@@ -60,7 +61,7 @@ public class Scoreboard {
         this.player = Players.wrapPlayer(player);
         this.holder = new ConfigBoard(player.getName());
         BoardPlayer.getBoardPlayer(player).attachConfigBoard(this.holder);
-        this.holder.runTaskTimerAsynchronously(ScoreboardManager.getPluginInstance(), 1, 1);
+        ScoreboardManager.getInstance().getFlusher().register(this.holder);
         this.startUpdateTask();
         ScoreboardManager.getInstance().addToCache(this);
     }
@@ -73,11 +74,14 @@ public class Scoreboard {
         if (lines == null || lines.isEmpty()) {
             return;
         }
+        // callers hand back the same list when nothing changed since the last render,
+        // only placeholders resolved at refresh time can make a refresh necessary then
+        if (lines == this.sourceLines && !this.hasLatePlaceholders()) {
+            return;
+        }
+        this.sourceLines = lines;
 
-        lines = this.resizeContent(lines);
-        int i = 0;
-
-        this.lines = lines;
+        this.lines = this.resizeContent(lines);
 
         refresh();
     }
@@ -100,6 +104,18 @@ public class Scoreboard {
         }
     }
 
+    private boolean hasLatePlaceholders() {
+        if (this.papiFunction != null) {
+            return true;
+        }
+        for (final String line : this.lines) {
+            if (line.indexOf('%') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private @NotNull String setPlaceholders(String content) {
         Objects.requireNonNull(content, "Content cannot be null");
         if (this.papiFunction != null) {
@@ -108,7 +124,7 @@ public class Scoreboard {
         for (final Map.Entry<String, Object> entry : this.persistentPlaceholders.entrySet()) {
             content = content.replace(entry.getKey(), entry.getValue().toString());
         }
-        if (Bukkit.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+        if (content.indexOf('%') >= 0 && Bukkit.getServer().getPluginManager().isPluginEnabled("PlaceholderAPI")) {
             content = PlaceholderAPI.setPlaceholders(this.player.as(Player.class), content);
         }
         return content;
@@ -19,20 +19,25 @@ import java.util.UUID;
 import java.util.Map;
 import org.bukkit.event.Listener;
 
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.BoardFlusher;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.WrapperBoard;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.Session;
 import io.github.pronze.sba.utils.Logger;
 
 public class ScoreboardManager implements Listener
 {
     private static ScoreboardManager instance;
+    private static String driver = WrapperBoard.BUKKIT_DRIVER;
     private final Map<UUID, Scoreboard> cachedBoards;
     private boolean toReset;
     private boolean legacy;
     private JavaPlugin plugin;
+    private final BoardFlusher flusher;
     
     public ScoreboardManager() {
         this.cachedBoards = new HashMap<UUID, Scoreboard>();
         this.toReset = true;
+        this.flusher = new BoardFlusher();
     }
     
     public static ScoreboardManager init(final JavaPlugin plugin) {
@@ -44,6 +49,7 @@ public class ScoreboardManager implements Listener
         ScoreboardManager.instance = new ScoreboardManager();
         ScoreboardManager.instance.plugin = plugin;
         Bukkit.getServer().getPluginManager().registerEvents((Listener)ScoreboardManager.instance, (Plugin)plugin);
+        ScoreboardManager.instance.flusher.start(plugin);
         final String[] bukkitVersion = Bukkit.getBukkitVersion().split("-")[0].split("\\.");
         int versionNumber = 0;
         for (int i = 0; i < 2; ++i) {
@@ -61,6 +67,17 @@ public class ScoreboardManager implements Listener
         ScoreboardManager.instance.toReset = boardsOnDisabled;
     }
     
+    /**
+     * Selects the driver used by boards created from now on, see {@link WrapperBoard} for the available drivers.
+     */
+    public static void setDriver(final String driver) {
+        ScoreboardManager.driver = driver;
+    }
+
+    public static String getDriver() {
+        return ScoreboardManager.driver;
+    }
+
     public static JavaPlugin getPluginInstance() {
         return ScoreboardManager.instance.plugin;
     }
@@ -68,14 +85,18 @@ public class ScoreboardManager implements Listener
     public static ScoreboardManager getInstance() {
         return ScoreboardManager.instance;
     }
+
+    public BoardFlusher getFlusher() {
+        return this.flusher;
+    }
     
     public void onDisable() {
         HandlerList.unregisterAll((Listener)ScoreboardManager.instance);
-        if (!this.toReset) {
-            return;
+        if (this.toReset) {
+            List.copyOf((Collection<Scoreboard>)this.cachedBoards.values()).forEach(Scoreboard::destroy);
+            this.cachedBoards.clear();
         }
-        List.copyOf((Collection<Scoreboard>)this.cachedBoards.values()).forEach(Scoreboard::destroy);
-        this.cachedBoards.clear();
+        this.flusher.stop();
     }
     
     public void addToCache(final Scoreboard board) {
@@ -0,0 +1,58 @@
+package io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+import io.github.pronze.sba.utils.Logger;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Single main thread task that pushes the pending changes of every {@link ConfigBoard} to its viewers.
+ * Boards only touch their drivers when a title frame advanced or {@link ConfigBoard#setLines(java.util.List)}
+ * marked rows dirty, so idle boards cost a couple of field checks per tick.
+ */
+public class BoardFlusher extends BukkitRunnable {
+
+    private final Set<ConfigBoard> boards = new LinkedHashSet<>();
+    private BukkitTask task;
+
+    public void start(Plugin plugin) {
+        if (task == null) {
+            task = this.runTaskTimer(plugin, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        boards.clear();
+    }
+
+    public void register(ConfigBoard board) {
+        boards.add(board);
+    }
+
+    public void unregister(ConfigBoard board) {
+        boards.remove(board);
+    }
+
+    @Override
+    public void run() {
+        if (boards.isEmpty()) {
+            return;
+        }
+        // boards may be destroyed by the drivers' side effects, iterate over a snapshot
+        for (ConfigBoard board : boards.toArray(ConfigBoard[]::new)) {
+            try {
+                board.flush();
+            } catch (Throwable t) {
+                Logger.warn("Exception while flushing scoreboard {}: {}", board.board, t);
+            }
+        }
+    }
+}
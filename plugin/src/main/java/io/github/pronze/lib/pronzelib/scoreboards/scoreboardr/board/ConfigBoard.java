@@ -4,10 +4,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scoreboard.Team;
 
 import io.github.pronze.lib.pronzelib.scoreboards.Scoreboard;
+import io.github.pronze.lib.pronzelib.scoreboards.ScoreboardManager;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.animations.Row;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.WrapperBoard;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.ConfigControl;
@@ -15,6 +15,7 @@ import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.utility.Sco
 import io.github.pronze.sba.utils.Logger;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
@@ -22,14 +23,23 @@ import java.util.Optional;
 
 import javax.annotation.Nullable;
 
-public class ConfigBoard extends BukkitRunnable {
+/**
+ * Holds the title and rows of a scoreboard and the drivers of the players viewing it.
+ * Changes are only recorded here, they are sent to the drivers by the shared {@link BoardFlusher} on the main thread.
+ */
+public class ConfigBoard {
 
     public String board;
     private String objectiveName ="";
     private Row title;
     private ArrayList<Row> rows = new ArrayList<>();
+    private ArrayList<String> rawLines = new ArrayList<>();
     private ArrayList<Player> players = new ArrayList<>();
     private HashMap<Player, WrapperBoard> playerToBoard = new HashMap<>();
+    private final BitSet dirtyRows = new BitSet();
+    private final ArrayList<WrapperBoard> newBoards = new ArrayList<>();
+    private boolean titleDirty;
+    private boolean lineCountDirty;
     private boolean enabled;
 
     public ConfigBoard(String board)
@@ -46,6 +56,7 @@ public class ConfigBoard extends BukkitRunnable {
     public void setTitle(List<String> animation,long interval)
     {
         this.title = new Row(ScoreboardStrings.makeColoredStringList(animation), (int)interval);
+        this.titleDirty = true;
     }
     private void initTitle()
     {
@@ -65,17 +76,27 @@ public class ConfigBoard extends BukkitRunnable {
 
     public void setLines(List<String> lines)
     {
+        // only rows whose text changed are rebuilt and marked for the next flush
         for (int i = 0; i < lines.size() && i < rows.size();i++)
         {
+            if (lines.get(i).equals(rawLines.get(i)))
+                continue;
             rows.set(i, new Row(ScoreboardStrings.makeColoredStringList(List.of(lines.get(i))), 0));
+            rawLines.set(i, lines.get(i));
+            dirtyRows.set(i);
         }
         while(rows.size() < lines.size())
         {
+            dirtyRows.set(rows.size());
+            rawLines.add(lines.get(rows.size()));
             rows.add(new Row(ScoreboardStrings.makeColoredStringList(List.of(lines.get(rows.size()))),0));
+            lineCountDirty = true;
         }
         while(rows.size() > lines.size())
         {
             rows.remove(rows.size() - 1);
+            rawLines.remove(rawLines.size() - 1);
+            lineCountDirty = true;
         }
     }
 
@@ -83,44 +104,77 @@ public class ConfigBoard extends BukkitRunnable {
         players.add(player);
 
         try {
-            WrapperBoard wrapperBoard = new WrapperBoard("SCOREBOARD_DRIVER_V1");
+            WrapperBoard wrapperBoard = new WrapperBoard(ScoreboardManager.getDriver());
             wrapperBoard.setObjective(objectiveName);
             wrapperBoard.setLineCount(rows.size());
             wrapperBoard.setPlayer(player);
             playerToBoard.put(player, wrapperBoard);
+            newBoards.add(wrapperBoard);
         } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
             e.printStackTrace();
         }
     }
 
     public void unhookPlayer(Player player) {
-        playerToBoard.remove(player);
+        WrapperBoard wrapperBoard = playerToBoard.remove(player);
+        if (wrapperBoard != null) {
+            newBoards.remove(wrapperBoard);
+            wrapperBoard.destroy();
+        }
         players.remove(player);
         player.setScoreboard(Objects.requireNonNull(Bukkit.getScoreboardManager()).getNewScoreboard());
     }
 
-    @Override
-    public void run() {
+    /**
+     * Advances the animations and sends the pending changes to every viewer, called by the {@link BoardFlusher}.
+     */
+    void flush() {
         if (!this.enabled) return;
 
-        this.title.update();
+        titleDirty |= this.title.update();
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).update()) {
+                dirtyRows.set(i);
+            }
+        }
 
-        for (Row row : rows) {
-            row.update();
+        if (!newBoards.isEmpty()) {
+            for (WrapperBoard wrapperBoard : newBoards) {
+                wrapperBoard.setTitle(this.title.getLine());
+                wrapperBoard.setLineCount(rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    wrapperBoard.setLine(i, rows.get(i).getLine());
+                }
+            }
+            newBoards.clear();
         }
-        
 
-        for (Player player: playerToBoard.keySet()) {
-            WrapperBoard wrapperBoard = playerToBoard.get(player);
-            wrapperBoard.setTitle(this.title.getLine());
-            wrapperBoard.setLineCount(rows.size());
-            
-            int count = 0;
-            for (Row row: new ArrayList<>(rows)) {
-                wrapperBoard.setLine(count, row.getLine());
-                count++;
+        if (!titleDirty && !lineCountDirty && dirtyRows.isEmpty()) {
+            return;
+        }
+
+        for (WrapperBoard wrapperBoard : playerToBoard.values()) {
+            if (titleDirty) {
+                wrapperBoard.setTitle(this.title.getLine());
+            }
+            if (lineCountDirty) {
+                wrapperBoard.setLineCount(rows.size());
+            }
+            for (int i = dirtyRows.nextSetBit(0); i >= 0 && i < rows.size(); i = dirtyRows.nextSetBit(i + 1)) {
+                wrapperBoard.setLine(i, rows.get(i).getLine());
             }
         }
+        titleDirty = false;
+        lineCountDirty = false;
+        dirtyRows.clear();
+    }
+
+    /**
+     * Stops the board from being flushed any further.
+     */
+    public void cancel() {
+        this.enabled = false;
+        ScoreboardManager.getInstance().getFlusher().unregister(this);
     }
 
     public void enable() {
@@ -134,4 +188,4 @@ public class ConfigBoard extends BukkitRunnable {
     {
         return playerToBoard.get(p);
     }
-}
\ No newline at end of file
+}
@@ -17,7 +17,7 @@ public class Row {
         this.lines = lines;
         this.interval = interval;
 
-        if (lines.size() == 1) {
+        if (lines.size() <= 1) {
             is_static = true;
         } else {
             for (String line: lines) {
@@ -40,10 +40,15 @@ public class Row {
         return this.line;
     }
 
-    public void update()
+    /**
+     * Advances the animation by one tick.
+     *
+     * @return true if the displayed frame changed
+     */
+    public boolean update()
     {
         if (is_static) {
-            return;
+            return false;
         }
 
         if (count >= interval) {
@@ -54,12 +59,12 @@ public class Row {
                 current = 0;
             }
 
+            final String previous = line;
             line = lines.get(current);
-
-        } else {
-            count++;
+            return !line.equals(previous);
         }
-
+        count++;
+        return false;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations;
+
+import java.util.Set;
+
+import org.bukkit.scoreboard.NameTagVisibility;
+import org.bukkit.scoreboard.Team;
+
+/**
+ * A name tag team shown to the player of a board.
+ * Depending on the driver the team lives on a Bukkit scoreboard or only on the client of the player.
+ */
+public interface BoardTeam {
+
+    String getName();
+
+    Set<String> getEntries();
+
+    boolean hasEntry(String entry);
+
+    void addEntry(String entry);
+
+    boolean removeEntry(String entry);
+
+    void setOption(Team.Option option, Team.OptionStatus status);
+
+    void setNameTagVisibility(NameTagVisibility visibility);
+}
@@ -4,7 +4,6 @@ import java.util.Optional;
 import org.bukkit.ChatColor;
 //https://github.com/RienBijl/Scoreboard-revision/blob/master/src/main/java/rien/bijl/Scoreboard/r/Board/Implementations/IBoard.java
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.Team;
 
 public interface IBoard {
 
@@ -27,10 +26,16 @@ public interface IBoard {
 
     boolean hasTeamEntry(String invisTeamName);
 
-    Team addTeam(String invisTeamName, ChatColor chatColor);
+    BoardTeam addTeam(String invisTeamName, ChatColor chatColor);
 
-    Optional<Team> getTeamEntry(String invisTeamName);
+    Optional<BoardTeam> getTeamEntry(String invisTeamName);
 
-    Team getTeamOrRegister(String invisTeamName);
+    BoardTeam getTeamOrRegister(String invisTeamName);
+
+    /**
+     * Removes everything the driver displayed from the client of the player
+     */
+    default void destroy() {
+    }
 
 }
\ No newline at end of file
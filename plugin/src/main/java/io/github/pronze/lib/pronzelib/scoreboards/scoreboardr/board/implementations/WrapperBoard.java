@@ -5,12 +5,15 @@ import java.util.Optional;
 
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.Team;
 
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.drivers.packet.PacketSidebarDriver;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.drivers.v1.ScoreboardDriverV1;
 
 public class WrapperBoard implements IBoard {
 
+    public static final String BUKKIT_DRIVER = "SCOREBOARD_DRIVER_V1";
+    public static final String PACKET_DRIVER = "PACKET_SIDEBAR_DRIVER";
+
     private IBoard child;
 
     /**
@@ -22,6 +25,9 @@ public class WrapperBoard implements IBoard {
      */
     public WrapperBoard(String driver) throws ClassNotFoundException, IllegalAccessException, InstantiationException {
        
+        if (PACKET_DRIVER.equalsIgnoreCase(driver)) {
+            this.child = new PacketSidebarDriver();
+        }
         if (this.child == null) {
             this.child = (IBoard) new ScoreboardDriverV1();
         }
@@ -52,6 +58,11 @@ public class WrapperBoard implements IBoard {
         return child.getPlayer();
     }
 
+    @Override
+    public void destroy() {
+        child.destroy();
+    }
+
     public void setObjective(String objectiveName) {
         child.setObjective(objectiveName);
     }
@@ -60,15 +71,15 @@ public class WrapperBoard implements IBoard {
         return child.hasTeamEntry(invisTeamName);
     }
 
-    public Team addTeam(String invisTeamName, ChatColor chatColor) {
+    public BoardTeam addTeam(String invisTeamName, ChatColor chatColor) {
         return child.addTeam(invisTeamName,chatColor);
     }
 
-    public Optional<Team> getTeamEntry(String invisTeamName) {
+    public Optional<BoardTeam> getTeamEntry(String invisTeamName) {
         return child.getTeamEntry(invisTeamName);
     }
 
-    public Team getTeamOrRegister(String invisTeamName) {
+    public BoardTeam getTeamOrRegister(String invisTeamName) {
         return child.getTeamOrRegister(invisTeamName);
     }
 }
\ No newline at end of file
@@ -0,0 +1,402 @@
+package io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.drivers.packet;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.NameTagVisibility;
+import org.bukkit.scoreboard.Team;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.BoardTeam;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.IBoard;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.utility.LineLimits;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.utility.ScoreboardStrings;
+import org.screamingsandals.lib.packet.ClientboundSetDisplayObjectivePacket;
+import org.screamingsandals.lib.packet.ClientboundSetObjectivePacket;
+import org.screamingsandals.lib.packet.ClientboundSetPlayerTeamPacket;
+import org.screamingsandals.lib.packet.ClientboundSetScorePacket;
+import org.screamingsandals.lib.player.Players;
+import org.screamingsandals.lib.spectator.Color;
+import org.screamingsandals.lib.spectator.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sidebar driver writing objective, score and team packets directly to the viewer.
+ * The sidebar and the name tag teams only exist on the client, no Bukkit scoreboard is allocated, and only lines whose
+ * content changed are sent.
+ */
+public class PacketSidebarDriver implements IBoard {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final String objectiveKey = "sbasb" + Integer.toHexString(COUNTER.incrementAndGet());
+    private Player player;
+    private org.screamingsandals.lib.player.Player viewer;
+    private int lines;
+    private String title = "";
+    private HashMap<Integer, String> cache = new HashMap<>();
+    private final Map<String, PacketTeam> teams = new LinkedHashMap<>();
+
+    @Override
+    public void setPlayer(Player player) {
+        this.player = player;
+        this.viewer = Players.wrapPlayer(player);
+
+        ClientboundSetObjectivePacket.builder()
+                .objectiveKey(objectiveKey)
+                .title(Component.fromLegacy(title))
+                .criteriaType(ClientboundSetObjectivePacket.Type.INTEGER)
+                .mode(ClientboundSetObjectivePacket.Mode.CREATE)
+                .build()
+                .sendPacket(viewer);
+
+        ClientboundSetDisplayObjectivePacket.builder()
+                .objectiveKey(objectiveKey)
+                .slot(ClientboundSetDisplayObjectivePacket.DisplaySlot.SIDEBAR)
+                .build()
+                .sendPacket(viewer);
+
+        for (int i = 0; i < lines; i++) {
+            createLine(i);
+        }
+        updateScores();
+        teams.values().forEach(team -> team.send(ClientboundSetPlayerTeamPacket.Mode.CREATE));
+    }
+
+    @Override
+    public void setTitle(String title) {
+        if (title == null) {
+            title = "";
+        }
+
+        if (title.length() > LineLimits.getLineLimit() * 2) {
+            title = title.substring(0, LineLimits.getLineLimit() * 2);
+        }
+
+        if (title.equals(this.title)) {
+            return;
+        }
+        this.title = title;
+
+        if (viewer == null) {
+            return;
+        }
+        ClientboundSetObjectivePacket.builder()
+                .objectiveKey(objectiveKey)
+                .title(Component.fromLegacy(title))
+                .criteriaType(ClientboundSetObjectivePacket.Type.INTEGER)
+                .mode(ClientboundSetObjectivePacket.Mode.UPDATE)
+                .build()
+                .sendPacket(viewer);
+    }
+
+    @Override
+    public void setLine(int line, String content) {
+        if (content == null) {
+            content = "";
+        }
+        if (line >= lines || content.equals(cache.get(line))) {
+            return;
+        }
+        cache.put(line, content);
+
+        if (viewer == null) {
+            return;
+        }
+        String[] split = split(content);
+        lineTeam(line)
+                .mode(ClientboundSetPlayerTeamPacket.Mode.UPDATE)
+                .teamPrefix(Component.fromLegacy(split[0]))
+                .teamSuffix(Component.fromLegacy(split[1]))
+                .build()
+                .sendPacket(viewer);
+    }
+
+    @Override
+    public void setLineCount(int lines) {
+        if (lines == this.lines) {
+            return;
+        }
+        final int previous = this.lines;
+        this.lines = lines;
+
+        if (viewer == null) {
+            return;
+        }
+        for (int i = previous; i < lines; i++) {
+            createLine(i);
+        }
+        for (int i = lines; i < previous; i++) {
+            removeLine(i);
+        }
+        updateScores();
+    }
+
+    @Override
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    @Override
+    public void setObjective(String objectiveName) {
+        // the objective key is generated per driver to avoid clashing with other sidebars of the viewer
+    }
+
+    @Override
+    public void destroy() {
+        if (viewer == null) {
+            return;
+        }
+        for (int i = 0; i < lines; i++) {
+            removeLine(i);
+        }
+        teams.values().forEach(team -> team.send(ClientboundSetPlayerTeamPacket.Mode.REMOVE));
+        ClientboundSetObjectivePacket.builder()
+                .objectiveKey(objectiveKey)
+                .mode(ClientboundSetObjectivePacket.Mode.DESTROY)
+                .build()
+                .sendPacket(viewer);
+        viewer = null;
+    }
+
+    private void createLine(int line) {
+        final String content = cache.getOrDefault(line, "");
+        String[] split = split(content);
+        lineTeam(line)
+                .mode(ClientboundSetPlayerTeamPacket.Mode.CREATE)
+                .teamPrefix(Component.fromLegacy(split[0]))
+                .teamSuffix(Component.fromLegacy(split[1]))
+                .entities(List.of(entry(line)))
+                .build()
+                .sendPacket(viewer);
+    }
+
+    private void removeLine(int line) {
+        cache.remove(line);
+        ClientboundSetScorePacket.builder()
+                .objectiveKey(objectiveKey)
+                .entityName(entry(line))
+                .action(ClientboundSetScorePacket.ScoreboardAction.REMOVE)
+                .build()
+                .sendPacket(viewer);
+        lineTeam(line)
+                .mode(ClientboundSetPlayerTeamPacket.Mode.REMOVE)
+                .build()
+                .sendPacket(viewer);
+    }
+
+    private void updateScores() {
+        int score = this.lines;
+        for (int i = 0; i < this.lines; i++) {
+            ClientboundSetScorePacket.builder()
+                    .objectiveKey(objectiveKey)
+                    .entityName(entry(i))
+                    .score(score--)
+                    .action(ClientboundSetScorePacket.ScoreboardAction.CHANGE)
+                    .build()
+                    .sendPacket(viewer);
+        }
+    }
+
+    private ClientboundSetPlayerTeamPacket.ClientboundSetPlayerTeamPacketBuilder lineTeam(int line) {
+        return ClientboundSetPlayerTeamPacket.builder()
+                .teamKey(objectiveKey + "_" + line)
+                .displayName(Component.empty())
+                .teamColor(Color.WHITE)
+                .collisionRule(ClientboundSetPlayerTeamPacket.CollisionRule.ALWAYS)
+                .tagVisibility(ClientboundSetPlayerTeamPacket.TagVisibility.ALWAYS);
+    }
+
+    private static String entry(int line) {
+        return ChatColor.values()[line] + "";
+    }
+
+    private String[] split(String line) {
+        int cutPoint = LineLimits.getLineLimit();
+        if (line.length() <= 32) {
+            cutPoint = line.length() / 2;
+        }
+        if (line.length() <= cutPoint || line.length() == 0) {
+            return new String[] { line, "" };
+        }
+
+        String prefix = line.substring(0, cutPoint);
+        String suffix = line.substring(cutPoint);
+
+        if (prefix.endsWith("§")) { // Check if we accidentally cut off a color
+            prefix = ScoreboardStrings.removeLastCharacter(prefix);
+            suffix = "§" + suffix;
+        } else if (prefix.contains("§")) { // Are there any colors we need to continue?
+            suffix = ChatColor.getLastColors(prefix) + suffix;
+        } else { // Just make sure the team color doesn't mess up anything
+            suffix = "§f" + suffix;
+        }
+
+        if (suffix.length() > LineLimits.getLineLimit()) {
+            suffix = suffix.substring(0, LineLimits.getLineLimit());
+        }
+
+        return new String[] { prefix, suffix };
+    }
+
+    public boolean hasTeamEntry(String invisTeamName) {
+        return teams.containsKey(invisTeamName);
+    }
+
+    public BoardTeam addTeam(String invisTeamName, ChatColor chatColor) {
+        if (teams.containsKey(invisTeamName)) {
+            throw new IllegalArgumentException("Team name '" + invisTeamName + "' is already in use");
+        }
+        final var team = new PacketTeam(invisTeamName);
+        teams.put(invisTeamName, team);
+        if (viewer != null) {
+            team.send(ClientboundSetPlayerTeamPacket.Mode.CREATE);
+        }
+        return team;
+    }
+
+    public Optional<BoardTeam> getTeamEntry(String invisTeamName) {
+        return Optional.ofNullable(teams.get(invisTeamName));
+    }
+
+    public BoardTeam getTeamOrRegister(String invisTeamName) {
+        final BoardTeam team = teams.get(invisTeamName);
+        return team != null ? team : addTeam(invisTeamName, ChatColor.GRAY);
+    }
+
+    /**
+     * Name tag team only known to the client of the viewer, changes are sent as team packets right away.
+     */
+    private class PacketTeam implements BoardTeam {
+        private final String name;
+        private final Set<String> entries = new LinkedHashSet<>();
+        private ClientboundSetPlayerTeamPacket.CollisionRule collisionRule = ClientboundSetPlayerTeamPacket.CollisionRule.ALWAYS;
+        private ClientboundSetPlayerTeamPacket.TagVisibility tagVisibility = ClientboundSetPlayerTeamPacket.TagVisibility.ALWAYS;
+
+        private PacketTeam(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Set<String> getEntries() {
+            return Collections.unmodifiableSet(entries);
+        }
+
+        @Override
+        public boolean hasEntry(String entry) {
+            return entries.contains(entry);
+        }
+
+        @Override
+        public void addEntry(String entry) {
+            // like on a Bukkit scoreboard an entry belongs to one team at most, the client moves it by itself
+            teams.values().forEach(other -> other.entries.remove(entry));
+            entries.add(entry);
+            if (viewer != null) {
+                ClientboundSetPlayerTeamPacket.builder()
+                        .teamKey(name)
+                        .mode(ClientboundSetPlayerTeamPacket.Mode.ADD_ENTITY)
+                        .entities(List.of(entry))
+                        .build()
+                        .sendPacket(viewer);
+            }
+        }
+
+        @Override
+        public boolean removeEntry(String entry) {
+            if (!entries.remove(entry)) {
+                return false;
+            }
+            if (viewer != null) {
+                ClientboundSetPlayerTeamPacket.builder()
+                        .teamKey(name)
+                        .mode(ClientboundSetPlayerTeamPacket.Mode.REMOVE_ENTITY)
+                        .entities(List.of(entry))
+                        .build()
+                        .sendPacket(viewer);
+            }
+            return true;
+        }
+
+        @Override
+        public void setOption(Team.Option option, Team.OptionStatus status) {
+            switch (option) {
+                case COLLISION_RULE:
+                    collisionRule = collisionRule(status);
+                    break;
+                case NAME_TAG_VISIBILITY:
+                    tagVisibility = tagVisibility(status);
+                    break;
+                default:
+                    // death messages are handled by the server
+                    return;
+            }
+            if (viewer != null) {
+                send(ClientboundSetPlayerTeamPacket.Mode.UPDATE);
+            }
+        }
+
+        @Override
+        public void setNameTagVisibility(NameTagVisibility visibility) {
+            tagVisibility = ClientboundSetPlayerTeamPacket.TagVisibility.valueOf(visibility.name());
+            if (viewer != null) {
+                send(ClientboundSetPlayerTeamPacket.Mode.UPDATE);
+            }
+        }
+
+        private void send(ClientboundSetPlayerTeamPacket.Mode mode) {
+            final var packet = ClientboundSetPlayerTeamPacket.builder()
+                    .teamKey(name)
+                    .mode(mode);
+            if (mode != ClientboundSetPlayerTeamPacket.Mode.REMOVE) {
+                packet.displayName(Component.fromLegacy(name))
+                        .teamPrefix(Component.empty())
+                        .teamSuffix(Component.empty())
+                        .teamColor(Color.WHITE)
+                        .collisionRule(collisionRule)
+                        .tagVisibility(tagVisibility);
+            }
+            if (mode == ClientboundSetPlayerTeamPacket.Mode.CREATE) {
+                packet.entities(List.copyOf(entries));
+            }
+            packet.build().sendPacket(viewer);
+        }
+    }
+
+    private static ClientboundSetPlayerTeamPacket.CollisionRule collisionRule(Team.OptionStatus status) {
+        switch (status) {
+            case NEVER:
+                return ClientboundSetPlayerTeamPacket.CollisionRule.NEVER;
+            case FOR_OTHER_TEAMS:
+                return ClientboundSetPlayerTeamPacket.CollisionRule.PUSH_OTHER_TEAMS;
+            case FOR_OWN_TEAM:
+                return ClientboundSetPlayerTeamPacket.CollisionRule.PUSH_OWN_TEAM;
+            default:
+                return ClientboundSetPlayerTeamPacket.CollisionRule.ALWAYS;
+        }
+    }
+
+    private static ClientboundSetPlayerTeamPacket.TagVisibility tagVisibility(Team.OptionStatus status) {
+        switch (status) {
+            case NEVER:
+                return ClientboundSetPlayerTeamPacket.TagVisibility.NEVER;
+            case FOR_OTHER_TEAMS:
+                return ClientboundSetPlayerTeamPacket.TagVisibility.HIDE_FOR_OWN_TEAM;
+            case FOR_OWN_TEAM:
+                return ClientboundSetPlayerTeamPacket.TagVisibility.HIDE_FOR_OTHER_TEAMS;
+            default:
+                return ClientboundSetPlayerTeamPacket.TagVisibility.ALWAYS;
+        }
+    }
+}
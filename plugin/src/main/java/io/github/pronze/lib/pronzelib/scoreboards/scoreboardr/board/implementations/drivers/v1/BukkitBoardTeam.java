@@ -0,0 +1,55 @@
+package io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.drivers.v1;
+
+import java.util.Set;
+
+import org.bukkit.scoreboard.NameTagVisibility;
+import org.bukkit.scoreboard.Team;
+
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.BoardTeam;
+
+/**
+ * Name tag team backed by a team of the Bukkit scoreboard of the board.
+ */
+public class BukkitBoardTeam implements BoardTeam {
+
+    private final Team team;
+
+    public BukkitBoardTeam(Team team) {
+        this.team = team;
+    }
+
+    @Override
+    public String getName() {
+        return team.getName();
+    }
+
+    @Override
+    public Set<String> getEntries() {
+        return team.getEntries();
+    }
+
+    @Override
+    public boolean hasEntry(String entry) {
+        return team.hasEntry(entry);
+    }
+
+    @Override
+    public void addEntry(String entry) {
+        team.addEntry(entry);
+    }
+
+    @Override
+    public boolean removeEntry(String entry) {
+        return team.removeEntry(entry);
+    }
+
+    @Override
+    public void setOption(Team.Option option, Team.OptionStatus status) {
+        team.setOption(option, status);
+    }
+
+    @Override
+    public void setNameTagVisibility(NameTagVisibility visibility) {
+        team.setNameTagVisibility(visibility);
+    }
+}
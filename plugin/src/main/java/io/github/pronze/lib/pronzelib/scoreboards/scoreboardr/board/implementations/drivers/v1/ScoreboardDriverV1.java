@@ -7,6 +7,7 @@ import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.BoardTeam;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.IBoard;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.Session;
 import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.plugin.utility.LineLimits;
@@ -184,26 +185,26 @@ public class ScoreboardDriverV1 implements IBoard {
         return this.board.getTeam(invisTeamName) != null;
     }
 
-    public Team addTeam(String invisTeamName, ChatColor chatColor) {
+    public BoardTeam addTeam(String invisTeamName, ChatColor chatColor) {
         Team t = this.board.registerNewTeam(invisTeamName);
         // t.setColor(chatColor);
-        return t;
+        return new BukkitBoardTeam(t);
     }
 
-    public Optional<Team> getTeamEntry(String invisTeamName) {
-        return Optional.ofNullable(this.board.getTeam(invisTeamName));
+    public Optional<BoardTeam> getTeamEntry(String invisTeamName) {
+        return Optional.ofNullable(this.board.getTeam(invisTeamName)).map(BukkitBoardTeam::new);
     }
 
-    public Team getTeamOrRegister(String invisTeamName) {
+    public BoardTeam getTeamOrRegister(String invisTeamName) {
         Team t = this.board.getTeam(invisTeamName);
         if (t == null)
             try {
-                t = addTeam(invisTeamName, ChatColor.GRAY);
+                return addTeam(invisTeamName, ChatColor.GRAY);
             } catch (Throwable t_) {
                 t_.printStackTrace();
                 return null;
             }
-        return t;
+        return new BukkitBoardTeam(t);
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import io.github.pronze.sba.lang.ILanguageService;
 import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.listener.*;
 import io.github.pronze.sba.manager.IArenaManager;
+import io.github.pronze.sba.manager.IGameTaskManager;
 import io.github.pronze.sba.manager.IPartyManager;
 import io.github.pronze.sba.party.PartyManager;
 import io.github.pronze.sba.placeholderapi.SBAExpansion;
@@ -30,6 +31,7 @@ import io.github.pronze.sba.specials.SpawnerProtection;
 import io.github.pronze.sba.specials.listener.BridgeEggListener;
 import io.github.pronze.sba.specials.listener.PopupTowerListener;
 import io.github.pronze.sba.utils.DateUtils;
+import io.github.pronze.sba.utils.EventDispatchTable;
 import io.github.pronze.sba.utils.FirstStartConfigReplacer;
 import io.github.pronze.sba.utils.Logger;
 import io.github.pronze.sba.utils.Logger.Level;
@@ -69,6 +71,7 @@ import org.screamingsandals.lib.utils.annotations.methods.OnEnable;
 import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
 import org.screamingsandals.simpleinventories.SimpleInventoriesCore;
 import io.github.pronze.lib.pronzelib.scoreboards.ScoreboardManager;
+import io.github.pronze.lib.pronzelib.scoreboards.scoreboardr.board.implementations.WrapperBoard;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -90,10 +93,12 @@ import static io.github.pronze.sba.utils.MessageUtils.showErrorMessage;
         NPCManager.class,
         UpdateChecker.class,
         SBAConfig.class,
+        HotbarItemService.class,
         LanguageService.class,
         CommandManager.class,
         ArenaManager.class,
         PartyManager.class,
+        TimingsService.class,
         GameTaskManager.class,
         SBAStoreInventoryV2.class,
         GamesInventory.class,
@@ -215,6 +220,9 @@ public class SBA implements AddonAPI {
         }
         if (!broken) {
             InventoryListener.init(cachedPluginInstance);
+            if (SBAConfig.getInstance().node("scoreboard-driver").getString("bukkit").equalsIgnoreCase("packet")) {
+                ScoreboardManager.setDriver(WrapperBoard.PACKET_DRIVER);
+            }
 
             if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
                 Logger.trace("Registering SBAExpansion...");
@@ -273,6 +281,7 @@ public class SBA implements AddonAPI {
             return;
         }
         Bukkit.getServer().getPluginManager().registerEvents(listener, getPluginInstance());
+        EventDispatchTable.invalidate();
         Logger.trace("Registered listener: {}", listener.getClass().getSimpleName());
     }
 
@@ -282,6 +291,7 @@ public class SBA implements AddonAPI {
         }
         HandlerList.unregisterAll(listener);
         registeredListeners.remove(listener);
+        EventDispatchTable.invalidate();
         Logger.trace("Unregistered listener: {}", listener.getClass().getSimpleName());
     }
 
@@ -339,6 +349,11 @@ public class SBA implements AddonAPI {
         return PartyManager.getInstance();
     }
 
+    @Override
+    public IGameTaskManager getGameTaskManager() {
+        return GameTaskManager.getInstance();
+    }
+
     @Override
     public WrapperService<Player, SBAPlayerWrapper> getPlayerWrapperService() {
         return PlayerWrapperService.getInstance();
@@ -8,11 +8,13 @@ import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.service.AIService;
 import io.github.pronze.sba.utils.citizens.Strategy;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.game.GameStatus;
+import org.screamingsandals.lib.player.Players;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
 
@@ -83,11 +85,13 @@ public class AICommand implements Listener {
             int current = game.countConnectedPlayers();
             if (current < maxPlayer) {
                 AIService.getInstance().spawnAI(player.getLocation()).thenAccept(ai -> {
+                    if (ai == null)
+                        return;
                     int current_ = game.countConnectedPlayers();
                     if (current_ < maxPlayer) {
                         game.joinToGame(ai);
                     } else {
-                        AIService.getInstance().getNPC(ai).destroy();
+                        AIService.getInstance().release(AIService.getInstance().getNPC(ai));
                     }
                 });
             }
@@ -117,11 +121,13 @@ public class AICommand implements Listener {
             if (current < maxPlayer) {
                 AIService.getInstance().spawnAI(player.getLocation(), Strategy.AGRESSIVE)
                         .thenAccept(ai -> {
+                            if (ai == null)
+                                return;
                             int current_ = game.countConnectedPlayers();
                             if (current_ < maxPlayer) {
                                 game.joinToGame(ai);
                             } else {
-                                AIService.getInstance().getNPC(ai).destroy();
+                                AIService.getInstance().release(AIService.getInstance().getNPC(ai));
                             }
                         });
             }
@@ -151,11 +157,13 @@ public class AICommand implements Listener {
             if (current < maxPlayer) {
                 AIService.getInstance().spawnAI(player.getLocation(), Strategy.DEFENSIVE)
                         .thenAccept(ai -> {
+                            if (ai == null)
+                                return;
                             int current_ = game.countConnectedPlayers();
                             if (current_ < maxPlayer) {
                                 game.joinToGame(ai);
                             } else {
-                                AIService.getInstance().getNPC(ai).destroy();
+                                AIService.getInstance().release(AIService.getInstance().getNPC(ai));
                             }
                         });
             }
@@ -185,11 +193,13 @@ public class AICommand implements Listener {
             if (current < maxPlayer) {
                 AIService.getInstance().spawnAI(player.getLocation(), Strategy.NONE)
                         .thenAccept(ai -> {
+                            if (ai == null)
+                                return;
                             int current_ = game.countConnectedPlayers();
                             if (current_ < maxPlayer) {
                                 game.joinToGame(ai);
                             } else {
-                                AIService.getInstance().getNPC(ai).destroy();
+                                AIService.getInstance().release(AIService.getInstance().getNPC(ai));
                             }
                         });
             }
@@ -219,15 +229,43 @@ public class AICommand implements Listener {
             if (current < maxPlayer) {
                 AIService.getInstance().spawnAI(player.getLocation(), Strategy.BALANCED)
                         .thenAccept(ai -> {
+                            if (ai == null)
+                                return;
                             int current_ = game.countConnectedPlayers();
                             if (current_ < maxPlayer) {
                                 game.joinToGame(ai);
                             } else {
-                                AIService.getInstance().getNPC(ai).destroy();
+                                AIService.getInstance().release(AIService.getInstance().getNPC(ai));
                             }
                         });
             }
         }
     }
 
+    @CommandMethod("sba ai stats")
+    @CommandPermission("sba.ai")
+    @CommandDescription("show the goal evaluation statistics of the ai players")
+    private void commandAIStats(
+            final @NotNull CommandSender sender) {
+        final var scheduler = AIService.getInstance().getScheduler();
+        if (scheduler == null) {
+            final var message = LanguageService
+                    .getInstance()
+                    .get(MessageKeys.AI_SCHEDULER_NOT_RUNNING)
+                    .toComponent();
+            Players.wrapSender(sender).sendMessage(message);
+            return;
+        }
+        final var message = LanguageService
+                .getInstance()
+                .get(MessageKeys.AI_STATS)
+                .replace("%evaluated%", String.valueOf(scheduler.getEvaluations()))
+                .replace("%late%", String.valueOf(scheduler.getLateEvaluations()))
+                .replace("%skipped%", String.valueOf(scheduler.getSkippedEvaluations()))
+                .replace("%throttled%", String.valueOf(scheduler.getThrottledEvaluations()))
+                .replace("%queued%", String.valueOf(scheduler.getQueued()))
+                .toComponent();
+        Players.wrapSender(sender).sendMessage(message);
+    }
+
 }
@@ -9,6 +9,7 @@ import io.github.pronze.sba.inventories.GamesInventory;
 import io.github.pronze.sba.inventories.PlayerTrackerInventory;
 import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.service.GamesInventoryService;
+import io.github.pronze.sba.service.TimingsService;
 import io.github.pronze.sba.utils.Logger;
 import io.leangen.geantyref.TypeToken;
 import org.screamingsandals.lib.player.Players;
@@ -47,6 +48,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
@@ -112,6 +114,80 @@ public class SBACommand {
 
     }
 
+    @CommandMethod("sba timings")
+    @CommandDescription("show tick time of sba tasks")
+    @CommandPermission("sba.timings")
+    private void commandTimings(
+            final @NotNull CommandSender sender) {
+        final var timings = TimingsService.getInstance();
+        if (!timings.isEnabled()) {
+            sendMessage(sender, MessageKeys.TIMINGS_NOT_ENABLED);
+            return;
+        }
+        final var sections = timings.getSections();
+        if (sections.isEmpty()) {
+            sendMessage(sender, MessageKeys.TIMINGS_EMPTY);
+            return;
+        }
+        sections.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    sendTimings(sender, MessageKeys.TIMINGS_SECTION, entry.getKey(), entry.getValue());
+                    timings.getArenaSections(entry.getKey())
+                            .entrySet()
+                            .stream()
+                            .sorted(Map.Entry.comparingByKey())
+                            .forEach(arenaEntry -> sendTimings(sender, MessageKeys.TIMINGS_ARENA_SECTION,
+                                    arenaEntry.getKey(), arenaEntry.getValue()));
+                });
+    }
+
+    @CommandMethod("sba timings toggle <enabled>")
+    @CommandDescription("enable or disable the timings of sba tasks")
+    @CommandPermission("sba.timings")
+    private void commandTimingsToggle(
+            final @NotNull CommandSender sender,
+            final @NotNull @Argument(value = "enabled") boolean enabled) {
+        TimingsService.getInstance().setEnabled(enabled);
+        sendMessage(sender, enabled ? MessageKeys.TIMINGS_TOGGLED_ON : MessageKeys.TIMINGS_TOGGLED_OFF);
+    }
+
+    @CommandMethod("sba timings reset")
+    @CommandDescription("reset the recorded timings of sba tasks")
+    @CommandPermission("sba.timings")
+    private void commandTimingsReset(
+            final @NotNull CommandSender sender) {
+        TimingsService.getInstance().reset();
+        sendMessage(sender, MessageKeys.TIMINGS_RESET);
+    }
+
+    private static void sendMessage(CommandSender sender, String[] key) {
+        final var message = LanguageService
+                .getInstance()
+                .get(key)
+                .toComponent();
+        Players.wrapSender(sender).sendMessage(message);
+    }
+
+    private static void sendTimings(CommandSender sender, String[] key, String section,
+                                    TimingsService.TimingRecord record) {
+        final var message = LanguageService
+                .getInstance()
+                .get(key)
+                .replace("%section%", section)
+                .replace("%avg%", formatMillis(record.getAverage()))
+                .replace("%p99%", formatMillis(record.getP99()))
+                .replace("%max%", formatMillis(record.getMax()))
+                .replace("%count%", String.valueOf(record.getInvocations()))
+                .toComponent();
+        Players.wrapSender(sender).sendMessage(message);
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000D);
+    }
+
     @CommandMethod("sba test compass")
     @CommandDescription("debug compass command")
     @CommandPermission("sba.debug")
@@ -0,0 +1,74 @@
+package io.github.pronze.sba.config;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable copy of the settings read on hot paths, the dotted paths are resolved once when the config is
+ * (re)loaded and listeners or tasks read plain fields afterwards.
+ * A new snapshot is built by {@link SBAConfig} whenever the underlying node changes, obtain it through
+ * {@link SBAConfig#snapshot()} instead of keeping a reference across reloads.
+ */
+@Getter
+public class ConfigSnapshot {
+    private final boolean disableItemDamage;
+    private final double explosionDamage;
+    private final boolean blockItemDrops;
+    private final boolean giveKillerResources;
+    private final boolean blockPuttingItemsInChest;
+    private final boolean disableArmorInventoryMovement;
+    private final boolean finalKillLightning;
+    private final boolean respawnCooldownEnabled;
+    private final boolean gameScoreboardEnabled;
+
+    private final double tntFallDamage;
+    private final double tntDetectionDistance;
+    private final double tntAccelerationY;
+    private final double tntReduceY;
+    private final double tntLaunchMultiplier;
+
+    private final boolean trapTitleEnabled;
+    private final boolean trapMessageEnabled;
+    @NotNull
+    private final String trapTriggeredSound;
+
+    @NotNull
+    private final String teamTargetDestroyed;
+    @NotNull
+    private final String teamTargetExists;
+    @NotNull
+    private final String teamAlive;
+    @NotNull
+    private final String teamDestroyed;
+    @NotNull
+    private final String teamEliminated;
+
+    ConfigSnapshot(@NotNull SBAConfig config) {
+        disableItemDamage = config.getBoolean("disable-item-damage", true);
+        explosionDamage = config.getDouble("explosion-damage", 1.0D);
+        blockItemDrops = config.getBoolean("block-item-drops", true);
+        giveKillerResources = config.getBoolean("give-killer-resources", true);
+        blockPuttingItemsInChest = config.getBoolean("block-players-putting-certain-items-onto-chest", true);
+        disableArmorInventoryMovement = config.getBoolean("disable-armor-inventory-movement", true);
+        finalKillLightning = config.getBoolean("final-kill-lightning", true);
+        respawnCooldownEnabled = config.getBoolean("respawn-cooldown.enabled", true);
+        gameScoreboardEnabled = config.getBoolean("game-scoreboard.enabled", true);
+
+        tntFallDamage = config.getDouble("tnt-fireball-jumping.fall-damage", 3.0D);
+        tntDetectionDistance = config.getDouble("tnt-fireball-jumping.detection-distance", 5.0D);
+        tntAccelerationY = config.getDouble("tnt-fireball-jumping.acceleration-y", 1.0D);
+        tntReduceY = config.getDouble("tnt-fireball-jumping.reduce-y", 2.0D);
+        tntLaunchMultiplier = config.getDouble("tnt-fireball-jumping.launch-multiplier", 4.0D);
+
+        trapTitleEnabled = config.getBoolean("shop.trap-title", true);
+        trapMessageEnabled = config.getBoolean("shop.trap-message", true);
+        trapTriggeredSound = config.getString("sounds.on_trap_triggered", "ENTITY_ENDER_DRAGON_GROWL");
+
+        final var teamStatus = config.teamStatus();
+        teamTargetDestroyed = teamStatus.targetDestroyed();
+        teamTargetExists = teamStatus.targetExists();
+        teamAlive = teamStatus.alive();
+        teamDestroyed = teamStatus.destroyed();
+        teamEliminated = teamStatus.eliminated();
+    }
+}
@@ -2,21 +2,33 @@ package io.github.pronze.sba.config;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.lib.plugin.ServiceManager;
 import org.screamingsandals.lib.utils.annotations.Service;
+import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
+import org.screamingsandals.lib.utils.annotations.methods.OnPreDisable;
 import org.screamingsandals.simpleinventories.inventory.Price;
 
+import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.utils.Logger;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,11 +37,22 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 
+/**
+ * Quick buy layouts of the players, stored as one file per player in the quickbuy folder.
+ * Layouts are loaded when a player logs in and kept in a bounded cache, edits are written by a background thread.
+ * Saves requested while a write of the same player is pending are coalesced into that write.
+ */
 @Service
-public class QuickBuyConfig {
+public class QuickBuyConfig implements Listener {
+    private static final int MAX_CACHED_PLAYERS = 512;
 
     private JavaPlugin plugin;
     private File directory;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "SBA-QuickBuy-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public static QuickBuyConfig getInstance() {
         return ServiceManager.get(QuickBuyConfig.class);
@@ -41,13 +64,42 @@ public class QuickBuyConfig {
         load();
     }
 
+    @OnPostEnable
+    public void onPostEnable() {
+        if (SBA.isBroken()) return;
+        SBA.getInstance().registerListener(this);
+    }
+
+    @OnPreDisable
+    public void onPreDisable() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                Logger.warn("Timed out while waiting for quickbuy writes to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writes which could not be queued or finished in time
+        final UserQuickBuyConfig[] remaining;
+        synchronized (pending) {
+            remaining = pending.values().toArray(UserQuickBuyConfig[]::new);
+            pending.clear();
+        }
+        for (var userConfig : remaining) {
+            write(userConfig);
+        }
+    }
+
     @Data
     @Accessors(fluent = true)
     @RequiredArgsConstructor
     public class UserQuickBuyConfig {
-        private Map<String, QuickBuyItem> items = new HashMap<>();
+        private Map<String, QuickBuyItem> items = new ConcurrentHashMap<>();
         @NonNull
         private UUID userId;
+        private volatile boolean dirty;
+
         @Data
         @Accessors(fluent = true)
         @NoArgsConstructor
@@ -83,27 +135,63 @@ public class QuickBuyConfig {
         }
     }
 
-    private Map<UUID, UserQuickBuyConfig> config = new HashMap<>();
+    private final Map<UUID, UserQuickBuyConfig> config = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, UserQuickBuyConfig> eldest) {
+            // unsaved edits stay reachable through the pending writes
+            return size() > MAX_CACHED_PLAYERS;
+        }
+    };
+    private final Map<UUID, UserQuickBuyConfig> pending = new HashMap<>();
 
     public UserQuickBuyConfig of(OfflinePlayer op) {
-        if (!config.containsKey(op.getUniqueId()))
-            config.put(op.getUniqueId(), new UserQuickBuyConfig(op.getUniqueId()));
-        return config.get(op.getUniqueId());
+        final var uuid = op.getUniqueId();
+        synchronized (config) {
+            final var cached = config.get(uuid);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // not prefetched, the player may have joined before the plugin was enabled
+        return cache(read(uuid));
     }
 
-    public void load() {
-        try {
-            directory.mkdir();
-        } catch (Throwable t) {
-            Logger.error("Could not create quickbuy directory due to {}", t);
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
         }
+        final var uuid = event.getUniqueId();
+        synchronized (config) {
+            if (config.containsKey(uuid)) {
+                return;
+            }
+        }
+        cache(read(uuid));
+    }
 
-        Arrays.stream(directory.listFiles()).forEach(file->{
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-            var fileName = file.getName();
-            String fileNameWithoutExtension = fileName.substring(0, fileName.lastIndexOf('.'));
-            UserQuickBuyConfig userConfig = new UserQuickBuyConfig(UUID.fromString(fileNameWithoutExtension));
+    private UserQuickBuyConfig cache(UserQuickBuyConfig userConfig) {
+        synchronized (config) {
+            final var existing = config.putIfAbsent(userConfig.userId(), userConfig);
+            return existing != null ? existing : userConfig;
+        }
+    }
+
+    private UserQuickBuyConfig read(UUID uuid) {
+        synchronized (pending) {
+            final var unsaved = pending.get(uuid);
+            if (unsaved != null) {
+                return unsaved;
+            }
+        }
 
+        UserQuickBuyConfig userConfig = new UserQuickBuyConfig(uuid);
+        File file = new File(directory, uuid + ".yml");
+        if (!file.exists()) {
+            return userConfig;
+        }
+        try {
+            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
             config.getKeys(false).forEach(key->{
                 var section = config.getConfigurationSection(key);
                 int amount = section.getInt("amount");
@@ -112,21 +200,78 @@ public class QuickBuyConfig {
                 Material mat = Material.valueOf(material);
                 userConfig.set(key, mat, Price.of(amount,resource));
             });
-            this.config.put(userConfig.userId(), userConfig);
-        });
+        } catch (Throwable t) {
+            Logger.warn("Could not load quickbuy of {} due to {}", uuid, t);
+        }
+        return userConfig;
     }
 
-    public void save() {
+    public void load() {
         try {
             directory.mkdir();
         } catch (Throwable t) {
             Logger.error("Could not create quickbuy directory due to {}", t);
         }
-        config.values().forEach(this::save);
     }
 
+    /**
+     * Queues a write of every cached player.
+     */
+    public void save() {
+        final UserQuickBuyConfig[] cached;
+        synchronized (config) {
+            cached = config.values().toArray(UserQuickBuyConfig[]::new);
+        }
+        for (var userConfig : cached) {
+            save(userConfig);
+        }
+    }
+
+    /**
+     * Queues a write of the player, returns immediately.
+     */
     public void save(UserQuickBuyConfig userConfig) {
-        File file = new File(directory + File.separator + userConfig.userId()+".yml");
+        synchronized (pending) {
+            userConfig.dirty(true);
+            if (pending.putIfAbsent(userConfig.userId(), userConfig) != null) {
+                // the queued write will pick up this change
+                return;
+            }
+        }
+        queue(userConfig.userId());
+    }
+
+    private void queue(UUID uuid) {
+        try {
+            writer.execute(() -> flush(uuid));
+        } catch (RejectedExecutionException e) {
+            // the writer has been shut down, the remaining writes are done on disable
+            Logger.trace("Could not queue quickbuy write of {}", uuid);
+        }
+    }
+
+    private void flush(UUID uuid) {
+        final UserQuickBuyConfig userConfig;
+        synchronized (pending) {
+            userConfig = pending.get(uuid);
+            if (userConfig == null) {
+                return;
+            }
+            userConfig.dirty(false);
+        }
+        write(userConfig);
+        synchronized (pending) {
+            if (!userConfig.dirty()) {
+                pending.remove(uuid);
+                return;
+            }
+        }
+        // edited while writing
+        queue(uuid);
+    }
+
+    private void write(UserQuickBuyConfig userConfig) {
+        File file = new File(directory, userConfig.userId() + ".yml");
         FileConfiguration config = new YamlConfiguration();
         userConfig.items().forEach((section,content)->{
             var sectionYaml = config.createSection(section);
@@ -137,8 +282,7 @@ public class QuickBuyConfig {
         try {
             config.save(file);
         } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
+            Logger.warn("Could not save quickbuy of {} due to {}", userConfig.userId(), e);
         }
     }
 
@@ -19,6 +19,7 @@ import org.screamingsandals.lib.item.builder.ItemStackFactory;
 import org.screamingsandals.lib.plugin.ServiceManager;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
+import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.serialize.SerializationException;
@@ -51,9 +52,11 @@ public class SBAConfig implements IConfigurator {
     public File dataFolder;
     public File langFolder, shopFolder, gamesInventoryFolder;
 
-    private ConfigurationNode configurationNode;
+    // empty until loaded, so that the snapshot below and early reads fall back to the defaults
+    private ConfigurationNode configurationNode = BasicConfigurationNode.root();
     private YamlConfigurationLoader loader;
     private ConfigGenerator generator;
+    private volatile ConfigSnapshot snapshot = new ConfigSnapshot(this);
 
     public SBAConfig(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -64,6 +67,18 @@ public class SBAConfig implements IConfigurator {
         return configurationNode.node(keys);
     }
 
+    /**
+     * @return the typed values of the current configuration, replaced as a whole on every reload
+     */
+    @NotNull
+    public ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
+    private void refreshSnapshot() {
+        snapshot = new ConfigSnapshot(this);
+    }
+
     public void loadDefaults() {
         this.dataFolder = plugin.getDataFolder();
 
@@ -118,6 +133,7 @@ public class SBAConfig implements IConfigurator {
                     .key("editing-hologram-enabled").defValue(true)
                     .section("debug")
                     .key("enabled").defValue(false)
+                    .key("timings").defValue(false)
                     .back()
                     .key("disable-item-damage").defValue(true)
                     .key("permanent-items").defValue(false)
@@ -212,6 +228,7 @@ public class SBAConfig implements IConfigurator {
                     .section("game-scoreboard")
                     .key("enabled").defValue(true)
                     .back()
+                    .key("scoreboard-driver").defValue("bukkit")
                     .key("first_start").defValue(true)
                     .section("shout")
                     .key("time-out").defValue(60)
@@ -359,6 +376,15 @@ public class SBAConfig implements IConfigurator {
                     .key("delay-in-ticks").defValue(80)
                     .key("use-stores").defValue(false)
                     .key("infinite-material").defValue("OAK_PLANKS")
+                    .section("scheduler")
+                    .key("tick-budget-ms").defValue(2.0)
+                    .key("far-distance").defValue(48)
+                    .key("far-interval-multiplier").defValue(4)
+                    .back()
+                    .section("pool")
+                    .key("size").defValue(8)
+                    .key("spawns-per-tick").defValue(2)
+                    .back()
                     .back();
 
             generator.saveIfModified();
@@ -368,15 +394,18 @@ public class SBAConfig implements IConfigurator {
 
         } catch (Exception ex) {
             ex.printStackTrace();
+        } finally {
+            // whatever could be loaded, defaults otherwise
+            refreshSnapshot();
         }
     }
 
     public boolean trapTitleEnabled() {
-        return getBoolean("shop.trap-title", true);
+        return snapshot.isTrapTitleEnabled();
     }
 
     public boolean trapMessageEnabled() {
-        return getBoolean("shop.trap-message", true);
+        return snapshot.isTrapMessageEnabled();
     }
 
     public TeamStatusConfig teamStatus() {
@@ -652,6 +681,35 @@ public class SBAConfig implements IConfigurator {
             return returnValue;
         }
 
+        /**
+         * @return the time the goal evaluations of all AI players may take per tick
+         */
+        public double tickBudgetMillis() {
+            return getDouble("ai.scheduler.tick-budget-ms", 2.0);
+        }
+
+        /**
+         * @return the distance to the nearest real player above which AI players decide less often
+         */
+        public int farDistance() {
+            return getInt("ai.scheduler.far-distance", 48);
+        }
+
+        public int farIntervalMultiplier() {
+            return getInt("ai.scheduler.far-interval-multiplier", 4);
+        }
+
+        /**
+         * @return the number of despawned AI players kept ready to be handed out
+         */
+        public int poolSize() {
+            return getInt("ai.pool.size", 8);
+        }
+
+        public int spawnsPerTick() {
+            return getInt("ai.pool.spawns-per-tick", 2);
+        }
+
         public void disable() {
             aiDisabled = true;
         }
@@ -694,6 +752,7 @@ public class SBAConfig implements IConfigurator {
 
         try {
             configurationNode = loader.load();
+            refreshSnapshot();
         } catch (ConfigurateException e) {
             e.printStackTrace();
         }
@@ -801,6 +860,7 @@ public class SBAConfig implements IConfigurator {
         try {
             node(path).set(value);
             generator.saveIfModified();
+            refreshSnapshot();
         } catch (Throwable e) {
             e.printStackTrace();
         }
@@ -832,11 +892,11 @@ public class SBAConfig implements IConfigurator {
 
     @Override
     public String getString(String path, String def) {
-        final var str = getString(path);
+        final var str = node((Object[]) path.split("\\.")).getString();
         if (str == null) {
             return def;
         }
-        return str;
+        return ChatColor.translateAlternateColorCodes('&', str);
     }
 
     public org.screamingsandals.lib.item.ItemStack readDefinedItem(ConfigurationNode node, String def) {
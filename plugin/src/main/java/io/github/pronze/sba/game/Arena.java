@@ -4,6 +4,7 @@ import io.github.pronze.sba.MessageKeys;
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.config.SBAConfig;
 import io.github.pronze.sba.data.GamePlayerData;
+import io.github.pronze.sba.data.GameSummary;
 import io.github.pronze.sba.game.tasks.BaseGameTask;
 import io.github.pronze.sba.game.tasks.GameTaskManager;
 import io.github.pronze.sba.lib.lang.LanguageService;
@@ -48,8 +49,15 @@ import org.screamingsandals.lib.npc.skin.NPCSkin;
 import org.screamingsandals.lib.world.Location;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
+/**
+ * Default {@link IArena} implementation, see {@link IArena} for the threading model.
+ * Collections which are read by the game tasks are concurrent, the rarely modified lists use copy on write so that
+ * their unmodifiable views can be iterated from any thread.
+ */
 public class Arena implements IArena {
     private static LivingEntity mockEntity = null;
     private final List<IRotatingGenerator> rotatingGenerators;
@@ -63,21 +71,23 @@ public class Arena implements IArena {
     private final GameScoreboardManager scoreboardManager;
     private final Game game;
     private final IGameStorage storage;
+    private final TeamProximityIndex proximityIndex;
 
     private CitizensWrapper citizens;
 
     public Arena(@NotNull Game game) {
         this.game = game;
-        this.rotatingGenerators = new ArrayList<>();
-        this.invisiblePlayers = new HashMap<>();
-        this.playerDataMap = new HashMap<>();
-        this.displayNames = new HashMap<>();
-        this.gameTasks = new ArrayList<>();
+        this.rotatingGenerators = new CopyOnWriteArrayList<>();
+        this.invisiblePlayers = new ConcurrentHashMap<>();
+        this.playerDataMap = new ConcurrentHashMap<>();
+        this.displayNames = new ConcurrentHashMap<>();
+        this.gameTasks = new CopyOnWriteArrayList<>();
         // this.storeNPCS = new ArrayList<>();
         // this.upgradeStoreNPCS = new ArrayList<>();
-        this.stores = new HashMap<>();
+        this.stores = new ConcurrentHashMap<>();
 
         this.storage = new GameStorage(game);
+        this.proximityIndex = new TeamProximityIndex(game, storage);
         this.gameTasks.addAll(GameTaskManager.getInstance().startTasks(this));
         this.scoreboardManager = new GameScoreboardManager(this);
         this.game.getConnectedPlayers()
@@ -96,45 +106,46 @@ public class Arena implements IArena {
 
     @Override
     public void addHiddenPlayer(@NotNull Player player) {
-        if (invisiblePlayers.containsKey(player.getUniqueId())) {
+        final var invisiblePlayer = new InvisiblePlayerImpl(player, this);
+        if (invisiblePlayers.putIfAbsent(player.getUniqueId(), invisiblePlayer) != null) {
             return;
         }
-        final var invisiblePlayer = new InvisiblePlayerImpl(player, this);
-        invisiblePlayers.put(player.getUniqueId(), invisiblePlayer);
+        HiddenEntityIndex.put(this, invisiblePlayer);
 
         Tasker.run(DefaultThreads.GLOBAL_THREAD, invisiblePlayer::vanish);
 
     }
 
     public void updateHiddenPlayer(@NotNull Player player) {
-        invisiblePlayers.get(player.getUniqueId()).refresh();
+        final var invisiblePlayer = invisiblePlayers.get(player.getUniqueId());
+        if (invisiblePlayer != null) {
+            invisiblePlayer.refresh();
+        }
     }
 
     @Override
     public void removeHiddenPlayer(@NotNull Player player) {
         if (player == null)
             return;
-        final var invisiblePlayer = invisiblePlayers.get(player.getUniqueId());
+        final var invisiblePlayer = invisiblePlayers.remove(player.getUniqueId());
         if (invisiblePlayer != null) {
+            HiddenEntityIndex.remove(player);
             invisiblePlayer.setHidden(false);
-            invisiblePlayers.remove(player.getUniqueId());
         }
     }
 
     @Override
     public void registerPlayerData(@NotNull UUID uuid, @NotNull GamePlayerData data) {
-        if (playerDataMap.containsKey(uuid)) {
+        if (playerDataMap.putIfAbsent(uuid, data) != null) {
             throw new UnsupportedOperationException("PlayerData of uuid: " + uuid + " is already registered!");
         }
-        playerDataMap.put(uuid, data);
     }
 
     @Override
     public void unregisterPlayerData(@NotNull UUID uuid) {
-        if (!playerDataMap.containsKey(uuid)) {
+        if (playerDataMap.remove(uuid) == null) {
             throw new UnsupportedOperationException("PlayerData of uuid: " + uuid + " is not registered!");
         }
-        playerDataMap.remove(uuid);
     }
 
     @Override
@@ -152,6 +163,16 @@ public class Arena implements IArena {
         return game;
     }
 
+    @Override
+    public @NotNull List<Player> getEnemiesNearBase(@NotNull RunningTeam team) {
+        return proximityIndex.getEnemiesNear(team);
+    }
+
+    @Override
+    public @NotNull List<Player> getTeammatesNearBase(@NotNull RunningTeam team) {
+        return proximityIndex.getTeammatesNear(team);
+    }
+
     @NotNull
     @Override
     public ScoreboardManager getScoreboardManager() {
@@ -411,9 +432,18 @@ public class Arena implements IArena {
     public void removePlayerFromGame(Player player) {
         scoreboardManager.removeScoreboard(player);
         removeVisualsForPlayer(player);
+        removeHiddenPlayer(player);
 
     }
 
+    /**
+     * Marks the team status shown on the scoreboards as outdated, to be called whenever a team lost its bed,
+     * a player or its last member.
+     */
+    public void invalidateTeamStatus() {
+        scoreboardManager.invalidateTeamStatus();
+    }
+
     public void onOver(BedwarsGameEndingEvent e) {
         // destroy scoreboard manager instance and GameTask, we do not need these
         // anymore
@@ -425,61 +455,16 @@ public class Arena implements IArena {
                     .get(MessageKeys.NONE)
                     .toString();
 
-            String firstKillerName = nullStr;
-            String firstKillerUsername = nullStr;
-            int firstKillerScore = 0;
-            UUID firstKillerUUID = null;
-
-            for (Map.Entry<UUID, GamePlayerData> entry : playerDataMap.entrySet()) {
-                final var playerData = playerDataMap.get(entry.getKey());
-                final var kills = playerData.getKills();
-                if (kills > 0 && kills > firstKillerScore) {
-                    firstKillerScore = kills;
-                    firstKillerName = playerData.getName();
-                    firstKillerUUID = entry.getKey();
-                }
-            }
-
-            String secondKillerName = nullStr;
-            String secondKillerUsername = nullStr;
-            int secondKillerScore = 0;
-            UUID secondKillerUUID = null;
-
-            for (Map.Entry<UUID, GamePlayerData> entry : playerDataMap.entrySet()) {
-                final var playerData = playerDataMap.get(entry.getKey());
-                final var kills = playerData.getKills();
-                final var name = playerData.getName();
-
-                if (kills > 0 && kills > secondKillerScore && !name.equalsIgnoreCase(firstKillerName)) {
-                    secondKillerName = name;
-                    secondKillerScore = kills;
-                    secondKillerUUID = entry.getKey();
-                }
-            }
-
-            String thirdKillerName = nullStr;
-            String thirdKillerUsername = nullStr;
-            int thirdKillerScore = 0;
-            UUID thirdKillerUUID = null;
-
-            for (Map.Entry<UUID, GamePlayerData> entry : playerDataMap.entrySet()) {
-                final var playerData = playerDataMap.get(entry.getKey());
-                final var kills = playerData.getKills();
-                final var name = playerData.getName();
-                if (kills > 0 && kills > thirdKillerScore && !name.equalsIgnoreCase(firstKillerName) &&
-                        !name.equalsIgnoreCase(secondKillerName)) {
-                    thirdKillerName = name;
-                    thirdKillerScore = kills;
-                    thirdKillerUUID = entry.getKey();
-                }
+            final var killers = getSummary(3).getTopKillers();
+            final var killerNames = new String[] { nullStr, nullStr, nullStr };
+            final var killerUsernames = new String[] { nullStr, nullStr, nullStr };
+            final var killerScores = new int[3];
+            for (int i = 0; i < killers.size(); i++) {
+                final var killer = killers.get(i);
+                killerUsernames[i] = killer.getName();
+                killerNames[i] = getDisplayName(killer.getUuid(), killer.getName());
+                killerScores[i] = killer.getKills();
             }
-            firstKillerUsername = firstKillerName;
-            secondKillerUsername = secondKillerName;
-            thirdKillerUsername = thirdKillerName;
-
-            firstKillerName = replaceNameWithDisplayName(nullStr, firstKillerName, firstKillerUUID);
-            secondKillerName = replaceNameWithDisplayName(nullStr, secondKillerName, secondKillerUUID);
-            thirdKillerName = replaceNameWithDisplayName(nullStr, thirdKillerName, thirdKillerUUID);
 
             var victoryTitle = LanguageService
                     .getInstance()
@@ -501,31 +486,33 @@ public class Arena implements IArena {
                                     .toString())
                     .replace("%win_team%", winner.getName())
                     .replace("%winners%", WinTeamPlayers.toString())
-                    .replace("%first_killer_name%", firstKillerName)
-                    .replace("%first_killer_username%", firstKillerUsername)
-                    .replace("%second_killer_name%", secondKillerName)
-                    .replace("%second_killer_username%", secondKillerUsername)
-                    .replace("%third_killer_name%", thirdKillerName)
-                    .replace("%third_killer_username%", thirdKillerUsername)
-                    .replace("%first_killer_score%", String.valueOf(firstKillerScore))
-                    .replace("%second_killer_score%", String.valueOf(secondKillerScore))
-                    .replace("%third_killer_score%", String.valueOf(thirdKillerScore))
+                    .replace("%first_killer_name%", killerNames[0])
+                    .replace("%first_killer_username%", killerUsernames[0])
+                    .replace("%second_killer_name%", killerNames[1])
+                    .replace("%second_killer_username%", killerUsernames[1])
+                    .replace("%third_killer_name%", killerNames[2])
+                    .replace("%third_killer_username%", killerUsernames[2])
+                    .replace("%first_killer_score%", String.valueOf(killerScores[0]))
+                    .replace("%second_killer_score%", String.valueOf(killerScores[1]))
+                    .replace("%third_killer_score%", String.valueOf(killerScores[2]))
 
                     .send(game.getConnectedPlayers().stream().map(Players::wrapPlayer)
                             .toArray(org.screamingsandals.lib.player.Player[]::new));
         }
     }
 
-    private String replaceNameWithDisplayName(final String nullStr, String firstKillerName, UUID playeruuid) {
-        if (!firstKillerName.equals(nullStr)) {
-            var firstPlayer = Bukkit.getPlayer(firstKillerName);
-            if (firstPlayer != null) {
-                firstKillerName = firstPlayer.getDisplayName() + ChatColor.RESET;
-            } else {
-                firstKillerName = this.displayNames.get(playeruuid);
-            }
+    private String getDisplayName(UUID playerUUID, String name) {
+        final var player = Bukkit.getPlayer(playerUUID);
+        if (player != null) {
+            return player.getDisplayName() + ChatColor.RESET;
         }
-        return firstKillerName;
+        return displayNames.getOrDefault(playerUUID, name);
+    }
+
+    @NotNull
+    @Override
+    public GameSummary getSummary(int topKillers) {
+        return GameSummary.of(playerDataMap, topKillers);
     }
 
     @Override
@@ -553,12 +540,12 @@ public class Arena implements IArena {
 
     @Override
     public List<BaseGameTask> getGameTasks() {
-        return List.copyOf(gameTasks);
+        return Collections.unmodifiableList(gameTasks);
     }
 
     @Override
     public List<IRotatingGenerator> getRotatingGenerators() {
-        return List.copyOf(rotatingGenerators);
+        return Collections.unmodifiableList(rotatingGenerators);
     }
 
     @Override
@@ -576,7 +563,7 @@ public class Arena implements IArena {
         return Map.copyOf(citizens.getCitizensStores());
     }
 
-    Map<Player, Player> tracking = new HashMap<>();
+    private final Map<Player, Player> tracking = new ConcurrentHashMap<>();
 
     public void track(Player source, Player target) {
         if (!game.isPlayerInAnyTeam(source))
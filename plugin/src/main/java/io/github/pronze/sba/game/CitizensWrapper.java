@@ -1,7 +1,7 @@
 package io.github.pronze.sba.game;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.screamingsandals.bedwars.api.game.GameStore;
 
@@ -18,8 +18,9 @@ import net.citizensnpcs.api.npc.NPCRegistry;
     public CitizensWrapper()
     {
         citizenRegistry=CitizensAPI.createAnonymousNPCRegistry(new MemoryNPCDataStore());
-        citizensStores=new HashMap<>();
+        citizensStores=new ConcurrentHashMap<>();
     }
     private NPCRegistry citizenRegistry;
+    // concurrent as IArena#getCitizensStores may copy it off the server thread
     private Map<org.screamingsandals.bedwars.api.game.GameStore, net.citizensnpcs.api.npc.NPC> citizensStores;
 }
\ No newline at end of file
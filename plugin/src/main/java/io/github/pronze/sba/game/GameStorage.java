@@ -6,75 +6,72 @@ import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.bedwars.api.RunningTeam;
 import org.screamingsandals.bedwars.api.game.Game;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Default {@link IGameStorage} implementation backed by a concurrent map, see {@link IGameStorage} for the threading model.
+ */
 public class GameStorage implements IGameStorage {
-    private final Map<RunningTeam, GameTeamData> teamDataMap = new HashMap<>();
+    private final Map<RunningTeam, GameTeamData> teamDataMap = new ConcurrentHashMap<>();
 
     public GameStorage(Game game) {
         game.getRunningTeams().forEach(team -> teamDataMap.put(team, GameTeamData.of(team)));
     }
 
+    private GameTeamData dataOf(RunningTeam team) {
+        return teamDataMap.computeIfAbsent(team, GameTeamData::of);
+    }
+
+    private GameTeamData registeredDataOf(RunningTeam team) {
+        final var data = teamDataMap.get(team);
+        if (data == null) {
+            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
+        }
+        return data;
+    }
+
     @Override
     public Optional<Location> getTargetBlockLocation(@NotNull RunningTeam team) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        return Optional.ofNullable(teamDataMap.get(team).getTargetBlockLoc());
+        return Optional.ofNullable(dataOf(team).getTargetBlockLoc());
     }
 
     @Override
     public Optional<Integer> getSharpnessLevel(@NotNull RunningTeam team) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        return Optional.of(teamDataMap.get(team).getSharpness());
+        return Optional.of(dataOf(team).getSharpness());
     }
 
     @Override
     public Optional<Integer> getProtectionLevel(@NotNull RunningTeam team) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        return Optional.of(teamDataMap.get(team).getProtection());
+        return Optional.of(dataOf(team).getProtection());
     }
 
     @Override
     public Optional<Integer> getEfficiencyLevel(@NotNull RunningTeam team) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        return Optional.of(teamDataMap.get(team).getEfficiency());
+        return Optional.of(dataOf(team).getEfficiency());
     }
 
     @Override
     public Optional<Integer> getKnockbackLevel(@NotNull RunningTeam team) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        return Optional.of(teamDataMap.get(team).getKnockback());
+        return Optional.of(dataOf(team).getKnockback());
     }
 
     @Override
     public Optional<Integer> getEnchantLevel(RunningTeam team, String propertyName) {
         if (team == null)
             return Optional.empty();
-        if (!teamDataMap.containsKey(team)) {
-            teamDataMap.put(team, GameTeamData.of(team));
-        }
-        Integer val = teamDataMap.get(team).get(propertyName);
+        Integer val = dataOf(team).get(propertyName);
         if (val == null)
             val = 0;
         return Optional.of(val);
@@ -84,155 +81,138 @@ public class GameStorage implements IGameStorage {
     public void setEnchantLevel(RunningTeam team, String propertyName, @NotNull Integer level) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).set(propertyName, level);
+        final var data = registeredDataOf(team);
+        data.set(propertyName, level);
+        data.markUpgraded();
     }
 
     @Override
     public void setSharpnessLevel(@NotNull RunningTeam team, @NotNull Integer level) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setSharpness(level);
+        final var data = registeredDataOf(team);
+        data.setSharpness(level);
+        data.markUpgraded();
     }
 
     @Override
     public void setProtectionLevel(@NotNull RunningTeam team, @NotNull Integer level) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setProtection(level);
+        final var data = registeredDataOf(team);
+        data.setProtection(level);
+        data.markUpgraded();
     }
 
     @Override
     public void setEfficiencyLevel(@NotNull RunningTeam team, @NotNull Integer level) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setEfficiency(level);
+        final var data = registeredDataOf(team);
+        data.setEfficiency(level);
+        data.markUpgraded();
     }
 
     @Override
     public void setKnockbackLevel(@NotNull RunningTeam team, @NotNull Integer level) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setKnockback(level);
+        final var data = registeredDataOf(team);
+        data.setKnockback(level);
+        data.markUpgraded();
     }
 
     @Override
     public void setPurchasedBlindTrap(@NotNull RunningTeam team, boolean isBlindTrapEnabled) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setPurchasedBlindTrap(isBlindTrapEnabled);
+        final var data = registeredDataOf(team);
+        data.setPurchasedBlindTrap(isBlindTrapEnabled);
+        data.markUpgraded();
     }
 
     @Override
     public void setPurchasedMinerTrap(@NotNull RunningTeam team, boolean isMinerTrapEnabled) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setPurchasedMinerTrap(isMinerTrapEnabled);
+        final var data = registeredDataOf(team);
+        data.setPurchasedMinerTrap(isMinerTrapEnabled);
+        data.markUpgraded();
     }
 
     @Override
     public void setPurchasedPool(@NotNull RunningTeam team, boolean isPoolEnabled) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setPurchasedPool(isPoolEnabled);
+        final var data = registeredDataOf(team);
+        data.setPurchasedPool(isPoolEnabled);
+        data.markUpgraded();
     }
 
     @Override
     public void setPurchasedDragons(@NotNull RunningTeam team, boolean isDragonEnabled) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setPurchasedDragonUpgrade(isDragonEnabled);
+        final var data = registeredDataOf(team);
+        data.setPurchasedDragonUpgrade(isDragonEnabled);
+        data.markUpgraded();
     }
 
     @Override
     public boolean areBlindTrapEnabled(@NotNull RunningTeam team) {
         if (team == null)
             return false;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        return teamDataMap.get(team).isPurchasedBlindTrap();
+        return registeredDataOf(team).isPurchasedBlindTrap();
     }
 
     @Override
     public boolean areMinerTrapEnabled(@NotNull RunningTeam team) {
         if (team == null)
             return false;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        return teamDataMap.get(team).isPurchasedMinerTrap();
+        return registeredDataOf(team).isPurchasedMinerTrap();
     }
 
     @Override
     public boolean arePoolEnabled(@NotNull RunningTeam team) {
         if (team == null)
             return false;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        return teamDataMap.get(team).isPurchasedPool();
+        return registeredDataOf(team).isPurchasedPool();
     }
 
     @Override
     public void setPurchasedTrap(RunningTeam team, boolean b, String trap_identifier) {
         if (team == null)
             return;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        teamDataMap.get(team).setPurchased(b, trap_identifier);
+        final var data = registeredDataOf(team);
+        data.setPurchased(b, trap_identifier);
+        data.markUpgraded();
     }
 
     @Override
     public boolean areTrapEnabled(RunningTeam team, String trap_identifier) {
         if (team == null)
             return false;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        return teamDataMap.get(team).isPuchased(trap_identifier);
+        return registeredDataOf(team).isPuchased(trap_identifier);
     }
     @Override
     public Iterable<String> enabledTraps(RunningTeam team)
     {
-        return teamDataMap.get(team).getEnabledTraps();
+        return registeredDataOf(team).getEnabledTraps();
+    }
+
+    @Override
+    public int getUpgradeVersion(@NotNull RunningTeam team) {
+        if (team == null)
+            return 0;
+        final var data = teamDataMap.get(team);
+        return data == null ? 0 : data.getUpgradeVersion();
     }
 
     @Override
     public boolean areDragonsEnabled(@NotNull RunningTeam team) {
         if (team == null)
             return false;
-        if (!teamDataMap.containsKey(team)) {
-            throw new UnsupportedOperationException("Team: " + team.getName() + " has not been registered yet!");
-        }
-        return teamDataMap.get(team).isPurchasedDragonUpgrade();
+        return registeredDataOf(team).isPurchasedDragonUpgrade();
     }
 
     @Override
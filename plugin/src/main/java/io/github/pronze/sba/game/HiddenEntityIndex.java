@@ -0,0 +1,62 @@
+package io.github.pronze.sba.game;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entity ids of the hidden players of every arena.
+ * Packet handlers run on the netty threads for every outbound packet, this index lets them resolve the entity of a
+ * packet without going through the game, arena and player lists, and skip all work when nobody is hidden.
+ * Entries are added and removed by {@link Arena} together with its invisible players.
+ */
+public final class HiddenEntityIndex {
+    private static final Map<Integer, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private HiddenEntityIndex() {
+    }
+
+    public static boolean isEmpty() {
+        return ENTRIES.isEmpty();
+    }
+
+    /**
+     * @return the hidden player owning the entity id, null if the entity is not a hidden player
+     */
+    @Nullable
+    public static Entry get(int entityId) {
+        return ENTRIES.get(entityId);
+    }
+
+    static void put(@NotNull Arena arena, @NotNull InvisiblePlayer invisiblePlayer) {
+        final var player = invisiblePlayer.getHiddenPlayer();
+        ENTRIES.put(player.getEntityId(), new Entry(arena, invisiblePlayer));
+    }
+
+    static void remove(@NotNull Player player) {
+        ENTRIES.values().removeIf(entry -> entry.invisiblePlayer.getHiddenPlayer().getUniqueId().equals(player.getUniqueId()));
+    }
+
+    public static class Entry {
+        private final Arena arena;
+        private final InvisiblePlayer invisiblePlayer;
+
+        private Entry(Arena arena, InvisiblePlayer invisiblePlayer) {
+            this.arena = arena;
+            this.invisiblePlayer = invisiblePlayer;
+        }
+
+        @NotNull
+        public Arena getArena() {
+            return arena;
+        }
+
+        @NotNull
+        public InvisiblePlayer getInvisiblePlayer() {
+            return invisiblePlayer;
+        }
+    }
+}
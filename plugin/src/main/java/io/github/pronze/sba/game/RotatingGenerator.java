@@ -1,31 +1,23 @@
 package io.github.pronze.sba.game;
 
-import io.github.pronze.sba.utils.ShopUtil;
 import lombok.Getter;
 import lombok.Setter;
 import org.screamingsandals.lib.item.builder.ItemStackFactory;
 import org.screamingsandals.lib.player.Players;
 import org.screamingsandals.lib.spectator.Component;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.bedwars.game.ItemSpawner;
-import io.github.pronze.sba.MessageKeys;
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.config.SBAConfig;
-import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.utils.Logger;
-import io.github.pronze.sba.utils.SBAUtil;
 import org.screamingsandals.lib.hologram.Hologram;
 import org.screamingsandals.lib.hologram.HologramManager;
 import org.screamingsandals.lib.tasker.TaskerTime;
 import org.screamingsandals.lib.utils.Pair;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -41,7 +33,6 @@ public class RotatingGenerator implements IRotatingGenerator {
     @Getter
     private final ItemStack stack;
 
-    private BukkitTask hologramTask;
     private Hologram hologram;
 
     public RotatingGenerator(ItemSpawner itemSpawner, ItemStack stack, Location location) {
@@ -49,10 +40,7 @@ public class RotatingGenerator implements IRotatingGenerator {
         this.stack = stack;
         this.location = location;
         this.time = itemSpawner.getItemSpawnerType().getInterval() + 1;
-        this.lines = LanguageService
-                .getInstance()
-                .get(MessageKeys.ROTATING_GENERATOR_FORMAT)
-                .toStringList();
+        this.lines = List.of();
     }
 
     @Override
@@ -70,7 +58,6 @@ public class RotatingGenerator implements IRotatingGenerator {
 
         hologram.show();
         viewers.forEach(player -> hologram.addViewer(Players.wrapPlayer(player)));
-        scheduleTasks();
     }
 
     @Override
@@ -84,85 +71,63 @@ public class RotatingGenerator implements IRotatingGenerator {
         hologram.removeViewer(Players.wrapPlayer(player));
     }
 
-    protected void scheduleTasks() {
-        // cancel tasks if pending
-        SBAUtil.cancelTask(hologramTask);
-
-        hologramTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                hologram.show();
-                // Logger.trace("RotatingGenerator::hologramTask ({},{})", this,hologramTask);
-
-                boolean full;
-                if (SBA.sbw_0_2_30) {
-                    // SBW changed the maxSpawnedResources logic and introduced getSpawnedItemsCount() method,
-                    // we should use it here to prevent hologram synchronization issues
-                    full = itemSpawner.getMaxSpawnedResources() <= itemSpawner.getSpawnedItemsCount();
-                } else {
-                    full = itemSpawner.getMaxSpawnedResources() <= itemSpawner.spawnedItems.size();
-                }
-                if (!full) {
-                    time--;
-                }
-                final var format = !full ? LanguageService
-                        .getInstance()
-                        .get(MessageKeys.ROTATING_GENERATOR_FORMAT)
-                        .toStringList() :
-
-                        LanguageService
-                                .getInstance()
-                                .get(MessageKeys.ROTATING_GENERATOR_FULL_TEXT_FORMAT)
-                                .toStringList();
-
-                final var newLines = new ArrayList<String>();
-                final var matName = itemSpawner.getItemSpawnerType().getMaterial() == Material.EMERALD
-                        ? "§a" + LanguageService
-                                .getInstance()
-                                .get(MessageKeys.EMERALD)
-                                .toString()
-                        : "§b" + LanguageService
-                                .getInstance()
-                                .get(MessageKeys.DIAMOND)
-                                .toString();
-
-                for (String line : format) {
-                    newLines.add(line
-                            .replace("%tier%", ShopUtil.romanNumerals.get(tierLevel))
-                            .replace("%material%", matName + "§6")
-                            .replace("%seconds%", String.valueOf(time)));
-                }
-
-                update(newLines);
-
-                if (time <= 0 || full) {
-                    if (SBA.sbw_0_2_30) {
-                        // SBW now allows to dynamically change the spawner interval during the game by changing this property,
-                        // we should use it for holograms to prevent synchronization issues
-                        time = itemSpawner.currentCycle;
-                    } else {
-                        time = itemSpawner.getItemSpawnerType().getInterval();
-                    }
-                }
+    /**
+     * @return true if the spawner reached its maximum amount of spawned resources
+     */
+    public boolean isFull() {
+        if (SBA.sbw_0_2_30) {
+            // SBW changed the maxSpawnedResources logic and introduced getSpawnedItemsCount() method,
+            // we should use it here to prevent hologram synchronization issues
+            return itemSpawner.getMaxSpawnedResources() <= itemSpawner.getSpawnedItemsCount();
+        }
+        return itemSpawner.getMaxSpawnedResources() <= itemSpawner.spawnedItems.size();
+    }
+
+    /**
+     * Advances the countdown by one second, called by the {@link io.github.pronze.sba.game.tasks.GeneratorHologramTask}.
+     *
+     * @param full whether the spawner is full, the countdown is frozen while it is
+     * @return the amount of seconds to display
+     */
+    public int advanceCountdown(boolean full) {
+        if (!full) {
+            time--;
+        }
+        final var displayed = time;
+        if (time <= 0 || full) {
+            if (SBA.sbw_0_2_30) {
+                // SBW now allows to dynamically change the spawner interval during the game by changing this property,
+                // we should use it for holograms to prevent synchronization issues
+                time = itemSpawner.currentCycle;
+            } else {
+                time = itemSpawner.getItemSpawnerType().getInterval();
             }
-        }.runTaskTimer(SBA.getPluginInstance(), 0L, 20L);
+        }
+        return displayed;
+    }
+
+    public boolean isSpawned() {
+        return hologram != null;
     }
 
     @Override
     public void update(@NotNull List<String> newLines) {
-        if (newLines.equals(lines)) {
+        if (hologram == null || newLines.equals(lines)) {
             return;
         }
+        // only lines whose text changed are sent to the viewers
         for (int i = 0; i < newLines.size(); i++) {
+            if (i < lines.size() && newLines.get(i).equals(lines.get(i))) {
+                continue;
+            }
             hologram.replaceLine(i, Component.text(newLines.get(i)));
         }
-        this.lines = new ArrayList<>(newLines);
+        this.lines = List.copyOf(newLines);
     }
 
     public void destroy() {
         Logger.trace("RotatingGenerator::destroy ({})", this);
 
-        SBAUtil.cancelTask(hologramTask);
         if (hologram != null) {
             hologram.destroy();
             hologram = null;
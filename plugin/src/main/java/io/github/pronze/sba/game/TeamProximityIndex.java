@@ -0,0 +1,158 @@
+package io.github.pronze.sba.game;
+
+import io.github.pronze.sba.config.SBAConfig;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.screamingsandals.bedwars.Main;
+import org.screamingsandals.bedwars.api.RunningTeam;
+import org.screamingsandals.bedwars.api.game.Game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spatial index of the players standing around each team's target block.
+ * Target blocks are bucketed into a grid whose cell size equals the trap detection range, so every
+ * player only has to be tested against the beds of its own and neighbouring cells.
+ * The index is rebuilt lazily, at most once per server tick, and is shared by the trap and heal pool tasks.
+ */
+public class TeamProximityIndex {
+    private static final long REBUILD_INTERVAL_MILLIS = 50L;
+
+    private final Game game;
+    private final IGameStorage storage;
+    private final double radiusSquared;
+    private final int cellSize;
+
+    private final Map<Long, List<BaseEntry>> grid = new HashMap<>();
+    private final Map<RunningTeam, BaseEntry> entries = new IdentityHashMap<>();
+    private long lastRebuild;
+
+    public TeamProximityIndex(@NotNull Game game, @NotNull IGameStorage storage) {
+        this.game = game;
+        this.storage = storage;
+        final var range = Math.max(1, SBAConfig.getInstance().node("upgrades", "trap-detection-range").getInt(7));
+        this.radiusSquared = Math.pow(range, 2);
+        this.cellSize = range;
+    }
+
+    /**
+     * Gets the non spectating players of other teams that are within trap detection range of the team's target block.
+     *
+     * @param team the team whose base should be queried
+     * @return a list of enemy players near the base, empty if there are none
+     */
+    @NotNull
+    public List<Player> getEnemiesNear(@NotNull RunningTeam team) {
+        refresh();
+        final var entry = entries.get(team);
+        return entry == null ? Collections.emptyList() : entry.enemies;
+    }
+
+    /**
+     * Gets the non spectating players of the team that are within trap detection range of the team's target block.
+     *
+     * @param team the team whose base should be queried
+     * @return a list of team members near the base, empty if there are none
+     */
+    @NotNull
+    public List<Player> getTeammatesNear(@NotNull RunningTeam team) {
+        refresh();
+        final var entry = entries.get(team);
+        return entry == null ? Collections.emptyList() : entry.teammates;
+    }
+
+    /**
+     * Forces the index to be rebuilt on the next query.
+     */
+    public void invalidate() {
+        lastRebuild = 0L;
+    }
+
+    private void refresh() {
+        final var now = System.currentTimeMillis();
+        if (now - lastRebuild < REBUILD_INTERVAL_MILLIS) {
+            return;
+        }
+        lastRebuild = now;
+        rebuild();
+    }
+
+    private void rebuild() {
+        grid.clear();
+        entries.clear();
+
+        for (var team : game.getRunningTeams()) {
+            final var target = storage.getTargetBlockLocation(team).orElse(null);
+            if (target == null || target.getWorld() == null) {
+                continue;
+            }
+            final var entry = new BaseEntry(team, target);
+            entries.put(team, entry);
+            grid.computeIfAbsent(key(cell(target.getBlockX()), cell(target.getBlockY()), cell(target.getBlockZ())),
+                    k -> new ArrayList<>(1)).add(entry);
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        for (var player : game.getConnectedPlayers()) {
+            if (Main.getPlayerGameProfile(player).isSpectator) {
+                continue;
+            }
+            final var location = player.getLocation();
+            final var playerTeam = game.getTeamOfPlayer(player);
+            final var cx = cell(location.getBlockX());
+            final var cy = cell(location.getBlockY());
+            final var cz = cell(location.getBlockZ());
+
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        final var bucket = grid.get(key(cx + dx, cy + dy, cz + dz));
+                        if (bucket == null) {
+                            continue;
+                        }
+                        for (var entry : bucket) {
+                            if (entry.target.getWorld() != location.getWorld()
+                                    || entry.target.distanceSquared(location) > radiusSquared) {
+                                continue;
+                            }
+                            if (entry.team == playerTeam) {
+                                entry.teammates.add(player);
+                            } else {
+                                entry.enemies.add(player);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int cell(int blockCoordinate) {
+        return Math.floorDiv(blockCoordinate, cellSize);
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+    }
+
+    private static class BaseEntry {
+        private final RunningTeam team;
+        private final Location target;
+        private final List<Player> enemies = new ArrayList<>();
+        private final List<Player> teammates = new ArrayList<>();
+
+        private BaseEntry(RunningTeam team, Location target) {
+            this.team = team;
+            this.target = target;
+        }
+    }
+}
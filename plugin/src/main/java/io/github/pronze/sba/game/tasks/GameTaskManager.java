@@ -3,34 +3,121 @@ package io.github.pronze.sba.game.tasks;
 import io.github.pronze.sba.config.SBAConfig;
 import io.github.pronze.sba.game.IArena;
 import io.github.pronze.sba.manager.IGameTaskManager;
+import io.github.pronze.sba.service.TimingsService;
+import io.github.pronze.sba.utils.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.lib.plugin.ServiceManager;
+import org.screamingsandals.lib.tasker.DefaultThreads;
+import org.screamingsandals.lib.tasker.Tasker;
+import org.screamingsandals.lib.tasker.TaskerTime;
+import org.screamingsandals.lib.tasker.task.Task;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
+import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
+import org.screamingsandals.lib.utils.annotations.methods.OnPreDisable;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Drives the game tasks of every arena from a single repeating task.
+ * Each pass walks the registered phases ordered by {@link BaseGameTask#getOrder()}, runs the ones whose period
+ * has elapsed and drops the ones that have been stopped.
+ */
 @Service
-@ServiceDependencies(dependsOn = SBAConfig.class)
+@ServiceDependencies(dependsOn = {SBAConfig.class, TimingsService.class})
 public class GameTaskManager implements IGameTaskManager {
+    public static final int GENERATOR_ORDER = 0;
+    public static final int GENERATOR_HOLOGRAM_ORDER = 5;
+    public static final int HEAL_POOL_ORDER = 10;
+    public static final int TRAP_ORDER = 20;
+    public static final int MINER_TRAP_ORDER = 30;
+    public static final int CUSTOM_TRAP_ORDER = 40;
+
+    private final List<ScheduledPhase> phases = new ArrayList<>();
+    private Task pipelineTask;
+    private long currentTick;
 
     public static GameTaskManager getInstance() {
         return ServiceManager.get(GameTaskManager.class);
     }
+
+    @OnPostEnable
+    public void onPostEnable() {
+        if (pipelineTask != null) {
+            pipelineTask.cancel();
+        }
+        pipelineTask = Tasker.runRepeatedly(DefaultThreads.GLOBAL_THREAD, this::tick, 1, TaskerTime.TICKS);
+    }
+
+    @OnPreDisable
+    public void onPreDisable() {
+        if (pipelineTask != null) {
+            pipelineTask.cancel();
+            pipelineTask = null;
+        }
+        phases.forEach(phase -> phase.task.stop());
+        phases.clear();
+    }
+
     @Override
     public List<BaseGameTask> startTasks(@NotNull IArena arena) {
-        List<BaseGameTask> l = new ArrayList<>(4);
+        List<BaseGameTask> l = new ArrayList<>(6);
         l.add(new GeneratorTask());
+        l.add(new GeneratorHologramTask());
         l.add(new HealPoolTask());
         l.add(new TrapTask());
         l.add(new MinerTrapTask());
         l.add(new CustomTrapTask());
 
-        return l.stream()
-                .map(task -> task.start(arena))
-                .collect(Collectors.toList());
+        // starting a task schedules it
+        l.forEach(task -> task.start(arena));
+        return l;
+    }
+
+    @Override
+    public void schedule(@NotNull BaseGameTask task) {
+        // a restarted task replaces its previous phase
+        phases.removeIf(phase -> phase.task == task);
+        final var phase = new ScheduledPhase(task, currentTick + task.getPeriodTicks());
+        int index = phases.size();
+        while (index > 0 && phases.get(index - 1).task.getOrder() > task.getOrder()) {
+            index--;
+        }
+        phases.add(index, phase);
+    }
+
+    private void tick() {
+        currentTick++;
+        if (phases.isEmpty()) {
+            return;
+        }
+
+        phases.removeIf(phase -> !phase.task.isStarted());
+        // copy to allow tasks to schedule further phases while the pass is running
+        final var timings = TimingsService.getInstance();
+        for (var phase : phases.toArray(ScheduledPhase[]::new)) {
+            if (phase.nextRun > currentTick || !phase.task.isStarted()) {
+                continue;
+            }
+            phase.nextRun = currentTick + phase.task.getPeriodTicks();
+            final var start = timings.start();
+            try {
+                phase.task.loopLogic();
+            } catch (Throwable t) {
+                Logger.warn("Exception while running {}: {}", phase.task.getClass().getSimpleName(), t);
+            }
+            timings.stop(phase.task.getClass().getSimpleName(), phase.task.getGame().getName(), start);
+        }
+    }
+
+    private static class ScheduledPhase {
+        private final BaseGameTask task;
+        private long nextRun;
+
+        private ScheduledPhase(BaseGameTask task, long nextRun) {
+            this.task = task;
+            this.nextRun = nextRun;
+        }
     }
 }
@@ -0,0 +1,61 @@
+package io.github.pronze.sba.game.tasks;
+
+import io.github.pronze.sba.MessageKeys;
+import io.github.pronze.sba.game.RotatingGenerator;
+import io.github.pronze.sba.lib.lang.LanguageService;
+import io.github.pronze.sba.utils.ShopUtil;
+import org.bukkit.Material;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Updates the holograms of every rotating generator of the arena once per second.
+ * Generators of the same spawner type, tier and countdown display the same text, which is rendered once per pass.
+ */
+public class GeneratorHologramTask extends BaseGameTask {
+    private final Map<String, List<String>> rendered = new HashMap<>();
+
+    public GeneratorHologramTask() {
+        setOrder(GameTaskManager.GENERATOR_HOLOGRAM_ORDER);
+    }
+
+    @Override
+    public boolean shouldRun() {
+        return !arena.getRotatingGenerators().isEmpty();
+    }
+
+    @Override
+    public void run() {
+        rendered.clear();
+        for (var iRotatingGenerator : arena.getRotatingGenerators()) {
+            final var generator = (RotatingGenerator) iRotatingGenerator;
+            if (!generator.isSpawned()) {
+                continue;
+            }
+            final var full = generator.isFull();
+            final var seconds = generator.advanceCountdown(full);
+            final var type = generator.getItemSpawner().getItemSpawnerType();
+            final var tierLevel = generator.getTierLevel();
+
+            final var lines = rendered.computeIfAbsent(type.getName() + ':' + tierLevel + ':' + full + ':' + seconds, k -> {
+                final var format = LanguageService
+                        .getInstance()
+                        .getTemplate(full ? MessageKeys.ROTATING_GENERATOR_FULL_TEXT_FORMAT : MessageKeys.ROTATING_GENERATOR_FORMAT,
+                                "%tier%", "%material%", "%seconds%");
+                final var matName = type.getMaterial() == Material.EMERALD
+                        ? "§a" + LanguageService
+                                .getInstance()
+                                .getTemplate(MessageKeys.EMERALD)
+                                .render(0)
+                        : "§b" + LanguageService
+                                .getInstance()
+                                .getTemplate(MessageKeys.DIAMOND)
+                                .render(0);
+                return List.copyOf(format.renderAll(ShopUtil.romanNumerals.get(tierLevel), matName + "§6", String.valueOf(seconds)));
+            });
+            generator.update(lines);
+        }
+    }
+}
@@ -24,6 +24,7 @@ public class GeneratorTask extends BaseGameTask {
     private int elapsedTime;
 
     public GeneratorTask() {
+        setOrder(GameTaskManager.GENERATOR_ORDER);
         nextEvent = GameTierEvent.first();
 
         timerUpgrades = SBAConfig
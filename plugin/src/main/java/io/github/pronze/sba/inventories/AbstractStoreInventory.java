@@ -23,12 +23,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.events.BedwarsApplyPropertyToBoughtItem;
+import org.screamingsandals.bedwars.api.RunningTeam;
 import org.screamingsandals.bedwars.api.events.BedwarsApplyPropertyToDisplayedItem;
+import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.bedwars.api.game.ItemSpawnerType;
 import org.screamingsandals.bedwars.game.GameStore;
 import org.screamingsandals.bedwars.utils.Sounds;
 import org.screamingsandals.lib.item.builder.ItemStackFactory;
-import org.screamingsandals.lib.utils.ConfigurateUtils;
 import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
 import org.screamingsandals.simpleinventories.builder.InventorySetBuilder;
 import org.screamingsandals.simpleinventories.events.ItemRenderEvent;
@@ -52,6 +53,22 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public abstract class AbstractStoreInventory implements IStoreInventory, Listener {
     private final Map<String, InventorySet> shopMap = new HashMap<>();
+    /**
+     * Items of every loaded shop by material and price, used to resolve quick buy entries.
+     */
+    private Map<ShopItemKey, GenericItemInfo> itemIndex = Map.of();
+    /**
+     * Entries which were not found after refreshing the index, cleared when the index changes.
+     */
+    private final Set<ShopItemKey> missingItems = new HashSet<>();
+    /**
+     * Compiled properties of every item of the loaded shops, by item identity.
+     */
+    private Map<GenericItemInfo, ShopItemDescriptor> descriptors = new IdentityHashMap<>();
+    /**
+     * Rendered shop items of each team, teams of finished games are released with their game.
+     */
+    private final Map<RunningTeam, TeamRenderCache> renderCache = new WeakHashMap<>();
     @NotNull
     private final String shopPaths;
 
@@ -144,6 +161,7 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
         }
 
         shopMap.put(name, inventorySet);
+        rebuildItemIndex();
     }
 
     @SneakyThrows
@@ -187,15 +205,12 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
         var newItem = event.getStack().as(ItemStack.class);
         var price = event.getPrices().get(0);
 
-        var isQuickBuy = itemInfo.getProperties().stream()
-                .anyMatch(prop -> prop.hasName() && prop.getPropertyName().equals("quickbuy"));
+        var descriptor = descriptorOf(itemInfo.getOriginal());
+        var isQuickBuy = descriptor.isQuickBuy();
         if (isQuickBuy && clickType.isRightClick()) {
             event.setCancelled(true);
             Logger.trace("Entering quickbuy edit mode");
-            var quickBuyId = itemInfo.getProperties().stream()
-                    .filter(prop -> prop.hasName() && prop.getPropertyName().equals("quickbuy")).findAny()
-                    .map(x -> x.getPropertyData().childrenMap().get("id").getString()).orElse("");
-            userInQuickBuy.put(player.getUniqueId(), quickBuyId);
+            userInQuickBuy.put(player.getUniqueId(), descriptor.getQuickBuyId());
             return;
         }
         if (!isQuickBuy && userInQuickBuy.containsKey(player.getUniqueId())) {
@@ -210,22 +225,19 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
             return;
         }
         if (isQuickBuy && !clickType.isRightClick()) {
-            var quickBuyId = itemInfo.getProperties().stream()
-                    .filter(prop -> prop.hasName() && prop.getPropertyName().equals("quickbuy")).findAny()
-                    .map(x -> x.getPropertyData().childrenMap().get("id").getString()).orElse("");
-
-            var quickBuyItem = QuickBuyConfig.getInstance().of(player).of(quickBuyId);
+            var quickBuyItem = QuickBuyConfig.getInstance().of(player).of(descriptor.getQuickBuyId());
             if (quickBuyItem == null) {
                 event.setCancelled(true);
                 return;
             }
             var quickBuyPrice = Price.of(quickBuyItem.amount(), quickBuyItem.resource());
-            GenericItemInfo gii = findInfo(quickBuyItem.material(), quickBuyPrice);
+            GenericItemInfo gii = findIndexedInfo(quickBuyItem.material(), quickBuyPrice);
             if (gii == null) {
                 event.setCancelled(true);
                 return;
             }
-            itemInfo = new PlayerItemInfo(event.getPlayer(), findInfo(quickBuyItem.material(), quickBuyPrice));
+            descriptor = descriptorOf(gii);
+            itemInfo = new PlayerItemInfo(event.getPlayer(), copyOf(gii));
             newItem = itemInfo.getOriginal().getItem().clone().as(ItemStack.class);
             price = quickBuyPrice;
         }
@@ -234,11 +246,13 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
 
         var amount = newItem.getAmount();
         var priceAmount = price.getAmount();
-        int inInventory = 0;
+        if (type == null) {
+            return;
+        }
+        final var resources = ResourceCount.of(player);
 
-        var currencyChanger = itemInfo.getFirstPropertyByName("currencyChanger");
-        if (currencyChanger.isPresent()) {
-            var changeItemToName = currencyChanger.get().getPropertyData().getString();
+        if (descriptor.hasProperty("currencyChanger")) {
+            var changeItemToName = descriptor.getCurrencyChanger();
             ItemSpawnerType changeItemType;
             if (changeItemToName == null) {
                 return;
@@ -258,11 +272,7 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
             double maxStackSize;
             int finalStackSize;
 
-            for (ItemStack itemStack : player.getInventory().getContents()) {
-                if (itemStack != null && itemStack.isSimilar(type.getStack())) {
-                    inInventory = inInventory + itemStack.getAmount();
-                }
-            }
+            final int inInventory = resources.get(type);
             if (Main.getInstance().getConfig().getBoolean("sell-max-64-per-click-in-shop")) {
                 maxStackSize = Math.min(inInventory / priceOfOne, originalMaxStackSize);
             } else {
@@ -281,7 +291,7 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
         var materialItem = Objects.requireNonNull(ItemStackFactory.build(type.getStack(priceAmount)));
 
         // purchase failed, player does not have enough resources to purchase
-        if (!event.hasPlayerInInventory(materialItem)) {
+        if (!resources.has(type, priceAmount)) {
             if (!SBAConfig.getInstance().node("shop", "removePurchaseMessages").getBoolean()) {
                 LanguageService
                         .getInstance()
@@ -292,30 +302,18 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
             return;
         }
 
-        for (var property : itemInfo.getProperties()) {
-            if (property.hasName()) {
-                var converted = ConfigurateUtils.raw(property.getPropertyData());
-                if (!(converted instanceof Map)) {
-                    converted = ShopUtil.nullValuesAllowingMap("value", converted);
-                }
-                // noinspection unchecked
-                var propertyData = (Map<String, Object>) converted;
-
-                // temporary fix
-                propertyData.putIfAbsent("name", property.getPropertyName());
-
-                var applyEvent = new BedwarsApplyPropertyToBoughtItem(game, player, newItem, propertyData);
-                Logger.trace("Calling event: {} for property: {}", applyEvent.getClass().getSimpleName(),
-                        property.getPropertyName());
-                SBA.getPluginInstance().getServer().getPluginManager().callEvent(applyEvent);
-                newItem = applyEvent.getStack();
-            }
+        for (var property : descriptor.getProperties()) {
+            var applyEvent = new BedwarsApplyPropertyToBoughtItem(game, player, newItem, property.copyData());
+            Logger.trace("Calling event: {} for property: {}", applyEvent.getClass().getSimpleName(),
+                    property.getName());
+            SBA.getPluginInstance().getServer().getPluginManager().callEvent(applyEvent);
+            newItem = applyEvent.getStack();
         }
 
         AtomicReference<ItemStack> newItemRef = new AtomicReference<ItemStack>(newItem);
         AtomicReference<org.screamingsandals.lib.item.ItemStack> newMaterialItemRef = new AtomicReference<>(materialItem);
         AtomicReference<String[]> messageOnFail = new AtomicReference<>(MessageKeys.CANNOT_BUY);
-        final var result = handlePurchase(player, newItemRef, newMaterialItemRef, itemInfo, type,messageOnFail);
+        final var result = handlePurchase(player, newItemRef, newMaterialItemRef, itemInfo, type, messageOnFail, resources);
 
         attemptLoreRemoval(newItem);
 
@@ -343,6 +341,7 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
 
         if (shouldSellStack) {
             event.sellStack(materialItem);
+            resources.take(type, materialItem.getAmount());
 
             if (!SBAConfig.getInstance().node("shop", "removePurchaseMessages").getBoolean()) {
                 LanguageService
@@ -400,15 +399,14 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
 
     private void iterateShop(@NotNull InventorySet is, @Nullable Consumer<SubInventory> consumer,
             @Nullable BiConsumer<Price, GenericItemInfo> itemConsumer) {
-        iterateShop(is.getMainSubInventory(), consumer, itemConsumer, new ArrayList<>());
+        iterateShop(is.getMainSubInventory(), consumer, itemConsumer, Collections.newSetFromMap(new IdentityHashMap<>()));
     }
 
     private void iterateShop(@NotNull SubInventory inv, @Nullable Consumer<SubInventory> consumer,
-            @Nullable BiConsumer<Price, GenericItemInfo> itemConsumer, @NotNull List<SubInventory> visited) {
-        if (visited.contains(inv)) {
+            @Nullable BiConsumer<Price, GenericItemInfo> itemConsumer, @NotNull Set<SubInventory> visited) {
+        if (!visited.add(inv)) {
             return; // prevent infinite loop
         }
-        visited.add(inv);
 
         if (consumer != null) {
             consumer.accept(inv);
@@ -427,34 +425,96 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
         }
     }
 
+    private void rebuildItemIndex() {
+        // later matches override earlier ones, as the former walk of the shops did
+        final var index = new HashMap<ShopItemKey, GenericItemInfo>();
+        final var previousDescriptors = descriptors;
+        final var compiled = new IdentityHashMap<GenericItemInfo, ShopItemDescriptor>();
+        iterateShops(inv -> inv.getContents().forEach(gii -> {
+            final var descriptor = previousDescriptors.get(gii);
+            compiled.put(gii, descriptor != null ? descriptor : ShopItemDescriptor.compile(gii));
+        }), (pr, gii) -> index.put(
+                new ShopItemKey(gii.getItem().as(ItemStack.class).getType(), pr.getCurrency(), pr.getAmount()), gii));
+        itemIndex = index;
+        descriptors = compiled;
+        missingItems.clear();
+    }
+
+    /**
+     * @return the compiled properties of a shop item, compiled on the fly for items which are not part of a shop
+     */
+    @NotNull
+    private ShopItemDescriptor descriptorOf(@NotNull GenericItemInfo info) {
+        final var descriptor = descriptors.get(info);
+        return descriptor != null ? descriptor : ShopItemDescriptor.compile(info);
+    }
+
+    private GenericItemInfo copyOf(GenericItemInfo gii) {
+        var clone = gii.clone();
+        clone.setItem(clone.getItem().clone());
+        return clone;
+    }
+
     private GenericItemInfo findInfo(Material m, Price p) {
-        AtomicReference<GenericItemInfo> ref = new AtomicReference<>();
-        iterateShops(null, (pr, gii) -> {
-            if (pr.getAmount() == p.getAmount() && pr.getCurrency().equals(p.getCurrency())) {
-                if (gii.getItem().as(ItemStack.class).getType() == m) {
-                    var clone = gii.clone();
-                    clone.setItem(clone.getItem().clone());
-                    ref.set(clone);
-                }
+        final var gii = findIndexedInfo(m, p);
+        return gii == null ? null : copyOf(gii);
+    }
+
+    /**
+     * @return the shop item itself, it must not be modified
+     */
+    private GenericItemInfo findIndexedInfo(Material m, Price p) {
+        final var key = new ShopItemKey(m, p.getCurrency(), p.getAmount());
+        var gii = itemIndex.get(key);
+        if (gii == null && !missingItems.contains(key)) {
+            // sub inventories may have been populated since the shop was loaded
+            rebuildItemIndex();
+            gii = itemIndex.get(key);
+            if (gii == null) {
+                missingItems.add(key);
             }
-        });
-        return ref.get();
+        }
+        return gii;
+    }
+
+    private static class ShopItemKey {
+        private final Material material;
+        private final String currency;
+        private final int amount;
+
+        private ShopItemKey(Material material, String currency, int amount) {
+            this.material = material;
+            this.currency = currency;
+            this.amount = amount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ShopItemKey)) {
+                return false;
+            }
+            final var other = (ShopItemKey) o;
+            return amount == other.amount && material == other.material && Objects.equals(currency, other.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Objects.hashCode(material) + Objects.hashCode(currency)) + amount;
+        }
     }
 
     private void onGeneratingItem(ItemRenderEvent event) {
         onPreGenerateItem(event);
         try {
             var itemInfo = event.getItem();
+            final var descriptor = descriptorOf(itemInfo.getOriginal());
 
-            var isQuickBuy = itemInfo.getProperties().stream()
-                    .anyMatch(prop -> prop.hasName() && prop.getPropertyName().equals("quickbuy"));
-
-            if (isQuickBuy) {
-                var quickBuyId = itemInfo.getProperties().stream()
-                        .filter(prop -> prop.hasName() && prop.getPropertyName().equals("quickbuy")).findAny()
-                        .map(x -> x.getPropertyData().childrenMap().get("id").getString()).orElse("");
-
-                var quickBuyItem = QuickBuyConfig.getInstance().of(event.getPlayer().as(Player.class)).of(quickBuyId);
+            if (descriptor.isQuickBuy()) {
+                var quickBuyItem = QuickBuyConfig.getInstance().of(event.getPlayer().as(Player.class))
+                        .of(descriptor.getQuickBuyId());
 
                 if (quickBuyItem != null) {
                     var quickBuyPrice = Price.of(quickBuyItem.amount(), quickBuyItem.resource());
@@ -472,6 +532,16 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
             var player = event.getPlayer().as(Player.class);
             var game = Main.getInstance().getGameOfPlayer(player);
 
+            final var teamCache = getTeamRenderCache(player, game);
+            if (teamCache != null) {
+                final var cached = teamCache.stacks.get(itemInfo.getOriginal());
+                if (cached != null && cached.input.equals(item)) {
+                    event.setStack(cached.output.clone());
+                    return;
+                }
+            }
+            final var input = item;
+
             if (itemInfo.getStack().getMaterial().is(Material.POTION)) {
                 var itemB = item.as(ItemStack.class);
                 Logger.trace("{}", itemB);
@@ -488,39 +558,72 @@ public abstract class AbstractStoreInventory implements IStoreInventory, Listene
             }
             event.setStack(item);
 
-            itemInfo.getProperties().forEach(property -> {
-                if (property.hasName()) {
-                    var converted = ConfigurateUtils.raw(property.getPropertyData());
-                    if (!(converted instanceof Map)) {
-                        converted = ShopUtil.nullValuesAllowingMap("value", converted);
-                    }
-
-                    // noinspection unchecked
-                    var propertyData = (Map<String, Object>) converted;
+            for (var property : descriptor.getProperties()) {
+                var applyEvent = new BedwarsApplyPropertyToDisplayedItem(game,
+                        player, event.getStack().as(ItemStack.class), property.copyData());
+                Bukkit.getServer().getPluginManager().callEvent(applyEvent);
 
-                    // temporary fix
-                    propertyData.putIfAbsent("name", property.getPropertyName());
-
-                    var applyEvent = new BedwarsApplyPropertyToDisplayedItem(game,
-                            player, event.getStack().as(ItemStack.class), propertyData);
-                    Bukkit.getServer().getPluginManager().callEvent(applyEvent);
-
-                    event.setStack(Objects.requireNonNullElse(ItemStackFactory.build(applyEvent.getStack()), event.getStack()));
-                }
-            });
+                event.setStack(Objects.requireNonNullElse(ItemStackFactory.build(applyEvent.getStack()), event.getStack()));
+            }
 
             onPostGenerateItem(event);
+            if (teamCache != null) {
+                teamCache.stacks.put(itemInfo.getOriginal(), new RenderedStack(input, event.getStack().clone()));
+            }
         } catch (Throwable t) {
             Logger.trace("{}", t.getMessage());
         }
     }
 
+    /**
+     * @return the rendered items of the team of the player, emptied when an upgrade of the team changes,
+     *         null if the player is not in a team
+     */
+    @Nullable
+    private TeamRenderCache getTeamRenderCache(Player player, @Nullable Game game) {
+        if (game == null) {
+            return null;
+        }
+        final var team = game.getTeamOfPlayer(player);
+        if (team == null) {
+            return null;
+        }
+        final var storage = SBA.getInstance().getGameStorage(game);
+        if (storage.isEmpty()) {
+            return null;
+        }
+        final var version = storage.get().getUpgradeVersion(team);
+        final var cache = renderCache.computeIfAbsent(team, k -> new TeamRenderCache());
+        if (cache.version != version) {
+            cache.version = version;
+            cache.stacks.clear();
+        }
+        return cache;
+    }
+
+    private static class TeamRenderCache {
+        private int version = -1;
+        private final Map<GenericItemInfo, RenderedStack> stacks = new IdentityHashMap<>();
+    }
+
+    private static class RenderedStack {
+        private final org.screamingsandals.lib.item.ItemStack input;
+        private final org.screamingsandals.lib.item.ItemStack output;
+
+        private RenderedStack(org.screamingsandals.lib.item.ItemStack input,
+                org.screamingsandals.lib.item.ItemStack output) {
+            this.input = input;
+            this.output = output;
+        }
+    }
+
     public abstract void onPostGenerateItem(ItemRenderEvent event);
 
     public abstract void onPreGenerateItem(ItemRenderEvent event);
 
     public abstract Map.Entry<Boolean, Boolean> handlePurchase(Player player, AtomicReference<ItemStack> newItem,
-            AtomicReference<org.screamingsandals.lib.item.ItemStack> materialItem, PlayerItemInfo itemInfo, ItemSpawnerType type, AtomicReference<String[]> messageOnFail);
+            AtomicReference<org.screamingsandals.lib.item.ItemStack> materialItem, PlayerItemInfo itemInfo, ItemSpawnerType type, AtomicReference<String[]> messageOnFail,
+            ResourceCount resources);
 
     @NotNull
     public abstract InventorySetBuilder getInventorySetBuilder();
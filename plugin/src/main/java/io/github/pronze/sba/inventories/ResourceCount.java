@@ -0,0 +1,93 @@
+package io.github.pronze.sba.inventories;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.screamingsandals.bedwars.Main;
+import org.screamingsandals.bedwars.api.game.ItemSpawnerType;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Amount of every spawner resource held by a player, counted in a single pass over the inventory.
+ * A count is meant to live for one shop transaction, {@link #take(ItemSpawnerType, int)} keeps it in sync with the
+ * resources removed during that transaction.
+ */
+public class ResourceCount {
+    /**
+     * Stack of a single resource of each spawner type, used to match inventory contents the way
+     * {@link org.bukkit.inventory.Inventory#containsAtLeast(ItemStack, int)} does.
+     */
+    private static final Map<ItemSpawnerType, ItemStack> RESOURCE_STACKS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ItemSpawnerType[] types;
+    private final int[] amounts;
+
+    private ResourceCount(ItemSpawnerType[] types, int[] amounts) {
+        this.types = types;
+        this.amounts = amounts;
+    }
+
+    @NotNull
+    public static ResourceCount of(@NotNull Player player) {
+        final var types = Main.getInstance().getItemSpawnerTypes().toArray(ItemSpawnerType[]::new);
+        final var stacks = new ItemStack[types.length];
+        for (int i = 0; i < types.length; i++) {
+            stacks[i] = resourceStack(types[i]);
+        }
+
+        final var amounts = new int[types.length];
+        for (var item : player.getInventory().getContents()) {
+            if (item == null) {
+                continue;
+            }
+            for (int i = 0; i < stacks.length; i++) {
+                if (stacks[i].getType() == item.getType() && stacks[i].isSimilar(item)) {
+                    amounts[i] += item.getAmount();
+                    break;
+                }
+            }
+        }
+        return new ResourceCount(types, amounts);
+    }
+
+    private static ItemStack resourceStack(ItemSpawnerType type) {
+        return RESOURCE_STACKS.computeIfAbsent(type, ItemSpawnerType::getStack);
+    }
+
+    public int get(@NotNull ItemSpawnerType type) {
+        final var index = indexOf(type);
+        return index < 0 ? 0 : amounts[index];
+    }
+
+    public boolean has(@NotNull ItemSpawnerType type, int amount) {
+        return get(type) >= amount;
+    }
+
+    /**
+     * Records resources removed from the inventory of the player.
+     */
+    public void take(@NotNull ItemSpawnerType type, int amount) {
+        final var index = indexOf(type);
+        if (index >= 0) {
+            amounts[index] = Math.max(0, amounts[index] - amount);
+        }
+    }
+
+    private int indexOf(ItemSpawnerType type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        // spawner types are matched by name as well in case they have been reloaded
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].getName().equalsIgnoreCase(type.getName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
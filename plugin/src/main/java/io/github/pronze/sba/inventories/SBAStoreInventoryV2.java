@@ -31,7 +31,6 @@ import org.screamingsandals.lib.item.builder.ItemStackFactory;
 import org.screamingsandals.lib.item.meta.EnchantmentType;
 import org.screamingsandals.lib.player.Players;
 import org.screamingsandals.lib.plugin.ServiceManager;
-import org.screamingsandals.lib.utils.ConfigurateUtils;
 import org.screamingsandals.lib.utils.Controllable;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
@@ -134,7 +133,8 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
     }
 
     public Map.Entry<Boolean, Boolean> handlePurchase(Player player, AtomicReference<ItemStack> newItem,
-            AtomicReference<org.screamingsandals.lib.item.ItemStack> materialItem, PlayerItemInfo itemInfo, ItemSpawnerType type, AtomicReference<String[]> messageOnFail) {
+            AtomicReference<org.screamingsandals.lib.item.ItemStack> materialItem, PlayerItemInfo itemInfo, ItemSpawnerType type, AtomicReference<String[]> messageOnFail,
+            ResourceCount resources) {
         boolean shouldSellStack = true;
         final var game = Main.getInstance().getGameOfPlayer(player);
         final var gameStorage = ArenaManager
@@ -174,16 +174,6 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
         for (var property : itemInfo.getProperties()) {
             if (property.hasName()) {
                 final var propertyName = property.getPropertyName().toLowerCase();
-                var converted = ConfigurateUtils.raw(property.getPropertyData());
-
-                if (!(converted instanceof Map)) {
-                    converted = ShopUtil.nullValuesAllowingMap("value", converted);
-                }
-                // noinspection unchecked
-                var propertyData = (Map<String, Object>) converted;
-
-                // temporary fix
-                propertyData.putIfAbsent("name", propertyName);
 
                 var isAdd = false;
                 double levelToAdd = 0;
@@ -287,8 +277,7 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
                             materialItem.set(ItemStackFactory.build(type.getStack(ePrice)));// . (ItemFactory. (
                                                                                              // type.getStack(ePrice)));
 
-                            if (player.getInventory().containsAtLeast(materialItem.get().as(ItemStack.class),
-                                    ePrice)) {
+                            if (resources.has(type, ePrice)) {
                                 gameStorage.setSharpnessLevel(team, teamSharpnessLevel);
                                 Integer finalTeamSharpnessLevel = teamSharpnessLevel;
                                 team.getConnectedPlayers().forEach(teamPlayer -> {
@@ -340,8 +329,7 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
                             materialItem.set(ItemStackFactory.build(type.getStack(ePrice)));// . (ItemFactory. (
                                                                                              // type.getStack(ePrice)));
 
-                            if (player.getInventory().containsAtLeast(materialItem.get().as(ItemStack.class),
-                                    ePrice)) {
+                            if (resources.has(type, ePrice)) {
                                 gameStorage.setSharpnessLevel(team, teamKnockbackLevel);
                                 Integer finalTeamSharpnessLevel = teamKnockbackLevel;
                                 team.getConnectedPlayers().forEach(teamPlayer -> {
@@ -394,8 +382,7 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
                             materialItem.set(ItemStackFactory.build(type.getStack(ePrice)));// . (ItemFactory. (
                                                                                              // type.getStack(ePrice)));
 
-                            if (player.getInventory().containsAtLeast(materialItem.get().as(ItemStack.class),
-                                    ePrice)) {
+                            if (resources.has(type, ePrice)) {
                                 gameStorage.setEfficiencyLevel(team, efficiencyLevel);
                                 Logger.trace("efficiency {}", efficiencyLevel);
                                 team.getConnectedPlayers().forEach(teamPlayer -> {
@@ -594,8 +581,7 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
                             materialItem.set(ItemStackFactory.build(type.getStack(ePrice)));// . (ItemFactory. (
                                                                                              // type.getStack(ePrice)));
 
-                            if (player.getInventory().containsAtLeast(materialItem.get().as(ItemStack.class),
-                                    ePrice)) {
+                            if (resources.has(type, ePrice)) {
                                 gameStorage.setProtectionLevel(team, teamProtectionLevel);
                                 ShopUtil.addEnchantsToPlayerArmor(player, teamProtectionLevel);
 
@@ -660,8 +646,7 @@ public class SBAStoreInventoryV2 extends AbstractStoreInventory {
 
                                 materialItem.set(ItemStackFactory.build(type.getStack(ePrice)));// . (ItemFactory. (
                                                                                                  // type.getStack(ePrice)));
-                                if (player.getInventory().containsAtLeast(materialItem.get().as(ItemStack.class),
-                                        ePrice)) {
+                                if (resources.has(type, ePrice)) {
                                     gameStorage.setEnchantLevel(team, propertyName, teamOtherLevel);
                                     team.getConnectedPlayers().forEach(teamPlayer -> {
                                         LanguageService
@@ -0,0 +1,125 @@
+package io.github.pronze.sba.inventories;
+
+import io.github.pronze.sba.utils.ShopUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.screamingsandals.lib.utils.ConfigurateUtils;
+import org.screamingsandals.simpleinventories.inventory.GenericItemInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Properties of a shop item parsed once when the shop is loaded.
+ * Render and purchase handlers read the flags and hand out copies of the converted property maps instead of
+ * walking and converting the configuration nodes of the item on every click.
+ */
+public class ShopItemDescriptor {
+    private final Set<String> propertyNames;
+    private final List<CompiledProperty> properties;
+    @Nullable
+    private final String quickBuyId;
+    @Nullable
+    private final String currencyChanger;
+
+    private ShopItemDescriptor(Set<String> propertyNames, List<CompiledProperty> properties,
+            @Nullable String quickBuyId, @Nullable String currencyChanger) {
+        this.propertyNames = propertyNames;
+        this.properties = properties;
+        this.quickBuyId = quickBuyId;
+        this.currencyChanger = currencyChanger;
+    }
+
+    @NotNull
+    public static ShopItemDescriptor compile(@NotNull GenericItemInfo info) {
+        final var names = new HashSet<String>();
+        final var compiled = new ArrayList<CompiledProperty>();
+        String quickBuyId = null;
+        String currencyChanger = null;
+        for (var property : info.getProperties()) {
+            if (!property.hasName()) {
+                continue;
+            }
+            final var name = property.getPropertyName();
+            names.add(name);
+
+            var converted = ConfigurateUtils.raw(property.getPropertyData());
+            if (!(converted instanceof Map)) {
+                converted = ShopUtil.nullValuesAllowingMap("value", converted);
+            }
+            // noinspection unchecked
+            final var data = new HashMap<>((Map<String, Object>) converted);
+            data.putIfAbsent("name", name);
+            compiled.add(new CompiledProperty(name, Collections.unmodifiableMap(data)));
+
+            if (quickBuyId == null && name.equals("quickbuy")) {
+                final var id = property.getPropertyData().childrenMap().get("id");
+                quickBuyId = id == null || id.getString() == null ? "" : id.getString();
+            }
+            if (currencyChanger == null && name.equals("currencyChanger")) {
+                currencyChanger = property.getPropertyData().getString();
+            }
+        }
+        return new ShopItemDescriptor(Set.copyOf(names), List.copyOf(compiled), quickBuyId, currencyChanger);
+    }
+
+    public boolean hasProperty(@NotNull String name) {
+        return propertyNames.contains(name);
+    }
+
+    public boolean isQuickBuy() {
+        return quickBuyId != null;
+    }
+
+    /**
+     * @return the id of the quick buy slot, empty if the item is a quick buy slot without id, null if it is not one
+     */
+    @Nullable
+    public String getQuickBuyId() {
+        return quickBuyId;
+    }
+
+    /**
+     * @return the name of the spawner type the bought item is replaced with, null if the property is absent or empty
+     */
+    @Nullable
+    public String getCurrencyChanger() {
+        return currencyChanger;
+    }
+
+    /**
+     * @return the named properties of the item, in declaration order
+     */
+    @NotNull
+    public List<CompiledProperty> getProperties() {
+        return properties;
+    }
+
+    public static class CompiledProperty {
+        private final String name;
+        private final Map<String, Object> data;
+
+        private CompiledProperty(String name, Map<String, Object> data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return a mutable copy of the converted property, including its name, to hand to property events
+         */
+        @NotNull
+        public Map<String, Object> copyData() {
+            return new HashMap<>(data);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.pronze.sba.lib.lang;
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.lang.ILanguageService;
 import io.github.pronze.sba.lang.Message;
+import io.github.pronze.sba.lang.MessageTemplate;
 import io.github.pronze.sba.utils.Logger;
 import lombok.Getter;
 import org.bukkit.Bukkit;
@@ -21,7 +22,9 @@ import java.io.FileOutputStream;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Getter
@@ -41,6 +44,7 @@ public class LanguageService implements ILanguageService {
     }
 
     public void load(JavaPlugin plugin) {
+        templates.clear();
         locale = SBAConfig.getInstance().node("locale").getString("en");
         if (!validLocale.contains(locale.toLowerCase())) {
             throw new UnsupportedOperationException("Invalid locale provided!");
@@ -92,6 +96,7 @@ public class LanguageService implements ILanguageService {
                     .build();
 
             fallbackNode = loader.load();
+            templates.clear();
         } catch (Exception ex) {
             Bukkit.getLogger().warning("There was an error loading fallback language!");
             ex.printStackTrace();
@@ -101,6 +106,7 @@ public class LanguageService implements ILanguageService {
     private String locale;
     private ConfigurationNode configurationNode;
     private ConfigurationNode fallbackNode;
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
 
     @Override
     @NotNull
@@ -108,6 +114,19 @@ public class LanguageService implements ILanguageService {
         return get(false, arguments);
     }
 
+    /**
+     * Gets the message compiled into a template, templates are parsed once and cached until the language is reloaded.
+     *
+     * @param key          the key of the message
+     * @param placeholders the placeholders resolved by the template, in the order their values are rendered with
+     * @return the compiled template
+     */
+    @NotNull
+    public MessageTemplate getTemplate(@NotNull String[] key, String... placeholders) {
+        final var cacheKey = String.join(".", key) + "|" + String.join("|", placeholders);
+        return templates.computeIfAbsent(cacheKey, k -> MessageTemplate.compile(get(key).toStringList(), placeholders));
+    }
+
     public Message get(boolean fallback, String... arguments) {
         ConfigurationNode argumentNode = fallback ? fallbackNode.node((Object[]) arguments) :
                 configurationNode.node((Object[]) arguments);
@@ -6,6 +6,10 @@ import io.github.pronze.sba.events.SBAFinalKillEvent;
 import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.party.IParty;
 import io.github.pronze.sba.party.PartyManager;
+import io.github.pronze.sba.service.HotbarItemService;
+import io.github.pronze.sba.service.HotbarItemService.HotbarItem;
+import io.github.pronze.sba.specials.SpawnerProtection;
+import io.github.pronze.sba.utils.EventDispatchTable;
 import io.github.pronze.sba.utils.Logger;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -80,6 +84,7 @@ public class BedWarsListener implements Listener {
                 .createArena(game);
 
         ((Arena) arena).onGameStarted();
+        SpawnerProtection.getInstance().rebuild(game);
     }
 
     @EventHandler
@@ -94,6 +99,8 @@ public class BedWarsListener implements Listener {
 
             listeners.forEach(SBA.getInstance()::unregisterListener);
             listeners.forEach(SBA.getInstance()::registerListener);
+            // BedWars registered new listener instances as well
+            EventDispatchTable.invalidate();
 
             Logger.trace("Registration complete!");
         }
@@ -106,7 +113,10 @@ public class BedWarsListener implements Listener {
         ArenaManager
                 .getInstance()
                 .get(game.getName())
-                .ifPresent(arena -> ((Arena) arena).onTargetBlockDestroyed(e));
+                .ifPresent(arena -> {
+                    ((Arena) arena).invalidateTeamStatus();
+                    ((Arena) arena).onTargetBlockDestroyed(e);
+                });
     }
 
     @EventHandler
@@ -120,6 +130,7 @@ public class BedWarsListener implements Listener {
         ArenaManager
                 .getInstance()
                 .removeArena(game);
+        SpawnerProtection.getInstance().invalidate(game);
     }
 
     @EventHandler
@@ -324,7 +335,8 @@ public class BedWarsListener implements Listener {
                         .getInstance()
                         .get(game.getName())
                         .orElseThrow();
-                if (SBAConfig.getInstance().getBoolean("game-scoreboard.enabled", true))
+                ((Arena) arena).invalidateTeamStatus();
+                if (SBAConfig.getInstance().snapshot().isGameScoreboardEnabled())
                     arena.getScoreboardManager().createScoreboard(player);
                 ((Arena) arena).getRotatingGenerators().forEach(generator -> {
                     generator.addViewer(player);
@@ -343,6 +355,7 @@ public class BedWarsListener implements Listener {
                 .getInstance()
                 .get(game.getName())
                 .ifPresent(arena -> {
+                    ((Arena) arena).invalidateTeamStatus();
                     arena.removeVisualsForPlayer(player);
                     arena.removePlayerFromGame(player);
                 });
@@ -410,11 +423,12 @@ public class BedWarsListener implements Listener {
             return;
         }
         if (player.getGameMode() == GameMode.ADVENTURE) {
-            player.getInventory().remove(SBAConfig.getInstance().spectator().teleporter().get());
-            player.getInventory().remove(SBAConfig.getInstance().spectator().leave().get());
+            final var hotbarItems = HotbarItemService.getInstance();
+            player.getInventory().remove(hotbarItems.get(HotbarItem.TELEPORTER));
+            player.getInventory().remove(hotbarItems.get(HotbarItem.LEAVE));
             if(!SBAConfig.getInstance().spectator().tracker().keepOnStart())
             {
-                player.getInventory().remove(SBAConfig.getInstance().spectator().tracker().get());
+                player.getInventory().remove(hotbarItems.get(HotbarItem.TRACKER));
             }
         }
         if (SBAConfig.getInstance().spectator().adventure()) {
@@ -473,13 +487,13 @@ public class BedWarsListener implements Listener {
             player.getInventory().clear();
 
             if (SBAConfig.getInstance().spectator().teleporter().enabled()) {
-                ItemStack compass = SBAConfig.getInstance().spectator().teleporter().get();
+                ItemStack compass = HotbarItemService.getInstance().get(HotbarItem.TELEPORTER);
                 int compassPosition = SBAConfig.getInstance().spectator().teleporter().slot();
                 player.getInventory().setItem(compassPosition, compass);
             }
 
             if (SBAConfig.getInstance().spectator().tracker().enabled()) {
-                ItemStack compass = SBAConfig.getInstance().spectator().tracker().get();
+                ItemStack compass = HotbarItemService.getInstance().get(HotbarItem.TRACKER);
                 int compassPosition = SBAConfig.getInstance().spectator().tracker().slot();
 
                 var game = Main.getInstance().getGameOfPlayer(player);
@@ -491,7 +505,7 @@ public class BedWarsListener implements Listener {
 
             int leavePosition = SBAConfig.getInstance().spectator().leave().position();
             if (leavePosition >= 0 && leavePosition <= 8) {
-                player.getInventory().setItem(leavePosition, SBAConfig.getInstance().spectator().leave().get());
+                player.getInventory().setItem(leavePosition, HotbarItemService.getInstance().get(HotbarItem.LEAVE));
             }
             player.setGameMode(GameMode.ADVENTURE);
         }, 1, TaskerTime.TICKS);
@@ -502,8 +516,7 @@ public class BedWarsListener implements Listener {
         var player = event.getPlayer();
         if ((event.getAction() != Action.RIGHT_CLICK_AIR) && (event.getAction() != Action.RIGHT_CLICK_BLOCK))
             return;
-        ItemStack compass = SBAConfig.getInstance().spectator().teleporter().get();
-        if (!compass.isSimilar(player.getInventory().getItemInHand()))
+        if (!HotbarItemService.getInstance().is(event.getItem(), HotbarItem.TELEPORTER))
             return;
 
         Logger.info("{} clicked on players teleporter", player);
@@ -524,8 +537,7 @@ public class BedWarsListener implements Listener {
         var player = event.getPlayer();
         if ((event.getAction() != Action.RIGHT_CLICK_AIR) && (event.getAction() != Action.RIGHT_CLICK_BLOCK))
             return;
-        ItemStack compass = SBAConfig.getInstance().spectator().tracker().get();
-        if (!compass.isSimilar(player.getInventory().getItemInHand()))
+        if (!HotbarItemService.getInstance().is(event.getItem(), HotbarItem.TRACKER))
             return;
 
         Logger.info("{} clicked on players tracker", player);
@@ -620,6 +632,8 @@ public class BedWarsListener implements Listener {
                 .getInstance()
                 .get(game.getName())
                 .ifPresent(arena -> {
+                    // a death may eliminate the team of the victim
+                    ((Arena) arena).invalidateTeamStatus();
                     arena.removeVisualsForPlayer(victim);
                     // player has died, increment death counter
                     arena.getPlayerData(victim.getUniqueId())
@@ -651,7 +665,7 @@ public class BedWarsListener implements Listener {
                                             killerData.setFinalKills(killerData.getFinalKills() + 1);
                                             Bukkit.getPluginManager()
                                                     .callEvent(new SBAFinalKillEvent(game, victim, killer));
-                                            if (SBAConfig.getInstance().node("final-kill-lightning").getBoolean(true)) {
+                                            if (SBAConfig.getInstance().snapshot().isFinalKillLightning()) {
                                                 victim.getWorld().strikeLightningEffect(victim.getLocation());
                                             }
                                         }
@@ -44,8 +44,7 @@ public class ExplosionVelocityControlListener implements Listener {
             if (entity instanceof Player) {
                 final var player = (Player) entity;
                 if (explosionAffectedPlayers.containsKey(player)) {
-                    event.setDamage(
-                            SBAConfig.getInstance().node("tnt-fireball-jumping", "fall-damage").getDouble(3.0D));
+                    event.setDamage(SBAConfig.getInstance().snapshot().getTntFallDamage());
                     Logger.trace("Landing tnt jump from fall damage", player);
                     endTntJump(player);
                 }
@@ -70,8 +69,8 @@ public class ExplosionVelocityControlListener implements Listener {
         // final var explodedEntity = event.getDamager();
 
         if (explodedEntity instanceof Explosive) {
-            final var detectionDistance = SBAConfig.getInstance().node("tnt-fireball-jumping", "detection-distance")
-                    .getDouble(5.0D);
+            final var config = SBAConfig.getInstance().snapshot();
+            final var detectionDistance = config.getTntDetectionDistance();
 
             explodedEntity.getWorld()
                     .getNearbyEntities(explodedEntity.getLocation(), detectionDistance, detectionDistance,
@@ -84,14 +83,11 @@ public class ExplosionVelocityControlListener implements Listener {
                                 .clone()
                                 .toVector()
                                 .subtract(explodedEntity.getLocation().clone()
-                                        .add(0, SBAConfig.getInstance().node("tnt-fireball-jumping",
-                                                "acceleration-y")
-                                                .getDouble(1.0), 0)
+                                        .add(0, config.getTntAccelerationY(), 0)
                                         .toVector())
                                 .normalize();
                         Logger.trace("{}", vector);
-                        vector.setY(vector.getY()
-                                / SBAConfig.getInstance().node("tnt-fireball-jumping", "reduce-y").getDouble(2.0));
+                        vector.setY(vector.getY() / config.getTntReduceY());
                         if (!Double.isFinite(vector.getY())) {
                             vector.setY(0);
                         }
@@ -101,8 +97,7 @@ public class ExplosionVelocityControlListener implements Listener {
                         if (!Double.isFinite(vector.getZ())) {
                             vector.setZ(0);
                         }
-                        vector.multiply(SBAConfig.getInstance().node("tnt-fireball-jumping", "launch-multiplier")
-                                .getDouble(4.0));
+                        vector.multiply(config.getTntLaunchMultiplier());
 
                         if (entity instanceof Player) {
                             final var player = (Player) entity;
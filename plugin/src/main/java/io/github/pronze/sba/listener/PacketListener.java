@@ -8,100 +8,95 @@ import org.screamingsandals.lib.impl.nms.accessors.ClientboundUpdateMobEffectPac
 import org.screamingsandals.lib.packet.event.SPacketEvent;
 import org.screamingsandals.lib.utils.PacketMethod;
 import org.screamingsandals.lib.utils.annotations.Service;
-import org.screamingsandals.lib.utils.reflect.Reflect;
-import io.github.pronze.sba.game.ArenaManager;
+import io.github.pronze.sba.game.HiddenEntityIndex;
+import io.github.pronze.sba.utils.Logger;
 
+import java.lang.reflect.Field;
+
+/**
+ * Hides the effects and equipment of invisible players from their enemies.
+ * Every outbound packet goes through these handlers, so they bail out as soon as no player is hidden and resolve the
+ * entity of a packet through the {@link HiddenEntityIndex} instead of scanning the players of the game.
+ */
 @Service
 public class PacketListener {
+    private final PacketType effects = new PacketType(ClientboundUpdateMobEffectPacketAccessor.getType(),
+            ClientboundUpdateMobEffectPacketAccessor.getFieldEntityId());
+    private final PacketType equipment = new PacketType(ClientboundSetEquipmentPacketAccessor.getType(),
+            ClientboundSetEquipmentPacketAccessor.getFieldEntity());
 
     @OnEvent
     public void onEffects(SPacketEvent event) {
-        if (event.getMethod() != PacketMethod.OUTBOUND) {
+        if (HiddenEntityIndex.isEmpty() || event.getMethod() != PacketMethod.OUTBOUND) {
             return;
         }
 
-        final var player = event.getPlayer().as(Player.class);
         final var packet = event.getPacket();
+        if (!effects.isInstance(packet)) {
+            return;
+        }
 
-        if (ClientboundUpdateMobEffectPacketAccessor.getType().isInstance(packet)) {
-            final var entityId = (int) Reflect.getField(packet, ClientboundUpdateMobEffectPacketAccessor.getFieldEntityId());
-            final var playerGame = Main.getInstance().getGameOfPlayer(player);
-            if (playerGame == null) {
-                return;
-            }
-
-            Player equipper = null;
-            for (var gamePlayer : playerGame.getConnectedPlayers()) {
-                if (gamePlayer.getEntityId() == entityId) {
-                    equipper = gamePlayer;
-                    break;
-                }
-            }
-
-            if (equipper == null) {
-                return;
-            }
-
-            final var maybeArena = ArenaManager
-                    .getInstance()
-                    .get(playerGame.getName());
-
-            if (maybeArena.isEmpty()) {
-                return;
-            }
-
-            final var arena = maybeArena.get();
-            if (arena.isPlayerHidden(equipper) && playerGame.getTeamOfPlayer(equipper) != playerGame.getTeamOfPlayer(player)) {
-                event.setCancelled(true);
-            }
+        final var hidden = HiddenEntityIndex.get(effects.getEntityId(packet));
+        if (hidden != null && isHiddenFrom(hidden, event.getPlayer().as(Player.class))) {
+            event.setCancelled(true);
         }
     }
 
     @OnEvent
     public void onEquipped(SPacketEvent event) {
-        if (event.getMethod() != PacketMethod.OUTBOUND) {
+        if (HiddenEntityIndex.isEmpty() || event.getMethod() != PacketMethod.OUTBOUND) {
             return;
         }
 
-        final var player = event.getPlayer().as(Player.class);
         final var packet = event.getPacket();
+        if (!equipment.isInstance(packet)) {
+            return;
+        }
 
-        if (ClientboundSetEquipmentPacketAccessor.getType().isInstance(packet)) {
-            final var entityId = (int) Reflect.getField(packet, ClientboundSetEquipmentPacketAccessor.getFieldEntity());
-
-            Player equipper = null;
-            final var playerGame = Main.getInstance().getGameOfPlayer(player);
-            if (playerGame == null) {
+        final var hidden = HiddenEntityIndex.get(equipment.getEntityId(packet));
+        if (hidden != null && isHiddenFrom(hidden, event.getPlayer().as(Player.class))) {
+            final var hiddenEquipper = hidden.getInvisiblePlayer();
+            if (hiddenEquipper.isJustEquipped()) {
+                hiddenEquipper.setJustEquipped(false);
                 return;
             }
+            event.setCancelled(true);
+        }
+    }
 
-            for (var gamePlayer : playerGame.getConnectedPlayers()) {
-                if (gamePlayer.getEntityId() == entityId) {
-                    equipper = gamePlayer;
-                    break;
-                }
-            }
+    private static boolean isHiddenFrom(HiddenEntityIndex.Entry hidden, Player player) {
+        final var game = hidden.getArena().getGame();
+        if (Main.getInstance().getGameOfPlayer(player) != game) {
+            return false;
+        }
+        return game.getTeamOfPlayer(hidden.getInvisiblePlayer().getHiddenPlayer()) != game.getTeamOfPlayer(player);
+    }
 
-            if (equipper == null) {
-                return;
+    /**
+     * Packet class and entity id field, resolved once instead of on every packet.
+     */
+    private static class PacketType {
+        private final Class<?> type;
+        private final Field entityId;
+
+        private PacketType(Class<?> type, Field entityId) {
+            this.type = type;
+            if (entityId != null) {
+                entityId.setAccessible(true);
             }
+            this.entityId = entityId;
+        }
 
-            final var maybeArena = ArenaManager
-                    .getInstance()
-                    .get(playerGame.getName());
-
-            if (maybeArena.isEmpty()) {
-                return;
-            }
+        private boolean isInstance(Object packet) {
+            return type != null && entityId != null && type.isInstance(packet);
+        }
 
-            final var arena = maybeArena.get();
-            if (arena.isPlayerHidden(equipper) && playerGame.getTeamOfPlayer(equipper) != playerGame.getTeamOfPlayer(player)) {
-                final var hiddenEquipper = arena.getHiddenPlayer(equipper.getUniqueId()).orElseThrow();
-                if (hiddenEquipper.isJustEquipped()) {
-                    hiddenEquipper.setJustEquipped(false);
-                    return;
-                }
-                event.setCancelled(true);
+        private int getEntityId(Object packet) {
+            try {
+                return entityId.getInt(packet);
+            } catch (IllegalAccessException e) {
+                Logger.trace("Could not read entity id of {} due to {}", type.getSimpleName(), e);
+                return -1;
             }
         }
     }
@@ -11,6 +11,7 @@ import io.github.pronze.sba.lib.lang.LanguageService;
 import io.github.pronze.sba.utils.Logger;
 import io.github.pronze.sba.utils.SBAUtil;
 import io.github.pronze.sba.utils.ShopUtil;
+import io.github.pronze.sba.utils.citizens.VoxelOccupancy;
 import io.github.pronze.sba.wrapper.SBAPlayerWrapper;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -133,7 +134,7 @@ public class PlayerListener implements Listener {
         itemArr.add(sword);
         arena.getPlayerData(player.getUniqueId()).ifPresent(playerData -> playerData.setInventory(itemArr));
 
-        if (SBAConfig.getInstance().getBoolean("give-killer-resources", true)) {
+        if (SBAConfig.getInstance().snapshot().isGiveKillerResources()) {
             final var killer = e.getEntity().getKiller();
 
             if (killer != null && Main.getInstance().isPlayerPlayingAnyGame(killer)
@@ -155,7 +156,7 @@ public class PlayerListener implements Listener {
 
         if (victimTeam == null)
             return;
-        if (SBAConfig.getInstance().getBoolean("respawn-cooldown.enabled", true) &&
+        if (SBAConfig.getInstance().snapshot().isRespawnCooldownEnabled() &&
                 victimTeam.isAlive() && game.isPlayerInAnyTeam(player) &&
                 game.getTeamOfPlayer(player).isTargetBlockExists()) {
 
@@ -239,7 +240,7 @@ public class PlayerListener implements Listener {
         if (!Main.isPlayerInGame(player))
             return;
 
-        if (SBAConfig.getInstance().getBoolean("disable-armor-inventory-movement", true) &&
+        if (SBAConfig.getInstance().snapshot().isDisableArmorInventoryMovement() &&
                 event.getSlotType() == SlotType.ARMOR)
             event.setCancelled(true);
 
@@ -252,7 +253,7 @@ public class PlayerListener implements Listener {
             return;
 
         if (clickedInventory.equals(bottomSlot)
-                && SBAConfig.getInstance().getBoolean("block-players-putting-certain-items-onto-chest", true)
+                && SBAConfig.getInstance().snapshot().isBlockPuttingItemsInChest()
                 && (topSlot.getType() == InventoryType.CHEST || topSlot.getType() == InventoryType.ENDER_CHEST)
                 && bottomSlot.getType() == InventoryType.PLAYER) {
             if (typeName.endsWith("AXE") || typeName.endsWith("SWORD")) {
@@ -271,7 +272,7 @@ public class PlayerListener implements Listener {
 
         if (!Main.isPlayerInGame(player))
             return;
-        if (!SBAConfig.getInstance().getBoolean("block-item-drops", true))
+        if (!SBAConfig.getInstance().snapshot().isBlockItemDrops())
             return;
 
         final var ItemDrop = evt.getItemDrop().getItemStack();
@@ -289,7 +290,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        if (SBAConfig.getInstance().node("disable-item-damage").getBoolean(true)) {
+        if (SBAConfig.getInstance().snapshot().isDisableItemDamage()) {
             event.setCancelled(true);
         }
     }
@@ -357,7 +358,7 @@ public class PlayerListener implements Listener {
                         .ifPresent(arena -> arena.removeHiddenPlayer(player));
 
                 if (event.getCause() == EntityDamageEvent.DamageCause.ENTITY_EXPLOSION) {
-                    event.setDamage(SBAConfig.getInstance().node("explosion-damage").getDouble(1.0D));
+                    event.setDamage(SBAConfig.getInstance().snapshot().getExplosionDamage());
                 }
             }
         }
@@ -491,6 +492,7 @@ public class PlayerListener implements Listener {
             }
             // replaced.getState().setType(player.getItemInHand().getType());
             newState.update(true);
+            VoxelOccupancy.blockChanged(replaced);
         }
     }
 
@@ -35,7 +35,8 @@ public class SpawnerProtectionListener implements Listener {
         
         final var playerGame = Main.getInstance().getGameOfPlayer(player);
 
-        if (SpawnerProtection.getInstance().isProtected(playerGame, event.getBlock().getLocation()))
+        final var block = event.getBlock();
+        if (SpawnerProtection.getInstance().isProtected(playerGame, block.getX(), block.getY(), block.getZ()))
         {
             event.setCancelled(true);
             final var component = LanguageService
@@ -4,6 +4,7 @@ import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.game.ArenaManager;
 import io.github.pronze.sba.game.tasks.GeneratorTask;
 import io.github.pronze.sba.service.PlayerWrapperService;
+import io.github.pronze.sba.service.TimingsService;
 import io.github.pronze.sba.utils.Logger;
 import io.github.pronze.sba.wrapper.SBAPlayerWrapper;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
@@ -65,6 +66,11 @@ public class SBAExpansion extends PlaceholderExpansion {
         %sba_team_enchant_efficiency%
         %sba_team_enchant_sharpness%
     
+        %sba_timings_<TASK>_avg%
+        %sba_timings_<TASK>_p99%
+        %sba_timings_<TASK>_max%
+        %sba_timings_<TASK>_count%
+
         %sba_version%
     */ 
     @Override
@@ -138,6 +144,21 @@ public class SBAExpansion extends PlaceholderExpansion {
                 }
                 break;
             }
+        } else if (identifiers[0].equalsIgnoreCase("timings")) {
+            if (identifiers.length < 3) return identifier;
+            final var record = TimingsService.getInstance().getSection(identifiers[1]);
+            if (record == null)
+                return "N/A";
+            switch (identifiers[2]) {
+                case "avg":
+                    return String.format("%.3f", record.getAverage() / 1_000_000D);
+                case "p99":
+                    return String.format("%.3f", record.getP99() / 1_000_000D);
+                case "max":
+                    return String.format("%.3f", record.getMax() / 1_000_000D);
+                case "count":
+                    return Long.toString(record.getInvocations());
+            }
         } else if (identifiers[0].equalsIgnoreCase("version")) {
             return SBA.getInstance().getVersion();
         }
@@ -5,11 +5,15 @@ import io.github.pronze.sba.config.SBAConfig;
 import io.github.pronze.sba.config.SBAConfig.AIConfig;
 import io.github.pronze.sba.game.ArenaManager;
 import io.github.pronze.sba.inventories.GamesInventory;
+import io.github.pronze.sba.utils.EventDispatchTable;
 import io.github.pronze.sba.utils.Logger;
+import io.github.pronze.sba.utils.citizens.AIScheduler;
 import io.github.pronze.sba.utils.citizens.BedwarsBlockPlace;
 import io.github.pronze.sba.utils.citizens.BridgePillarTrait;
 import io.github.pronze.sba.utils.citizens.FakeDeathTrait;
 import io.github.pronze.sba.utils.citizens.Strategy;
+import io.github.pronze.sba.utils.citizens.VoxelOccupancy;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import net.citizensnpcs.api.CitizensAPI;
@@ -21,6 +25,7 @@ import net.citizensnpcs.api.npc.MemoryNPCDataStore;
 import net.citizensnpcs.api.npc.NPC;
 import net.citizensnpcs.api.npc.NPCRegistry;
 import net.citizensnpcs.trait.GameModeTrait;
+import net.citizensnpcs.api.trait.trait.Inventory;
 import net.citizensnpcs.trait.SkinTrait;
 import org.screamingsandals.lib.spectator.Component;
 import org.bukkit.Bukkit;
@@ -30,11 +35,9 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.Event;
 import org.bukkit.event.EventException;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByBlockEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
@@ -43,8 +46,7 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
 import org.bukkit.event.player.PlayerGameModeChangeEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.events.BedwarsOpenShopEvent;
@@ -59,6 +61,7 @@ import org.screamingsandals.lib.plugin.ServiceManager;
 import org.screamingsandals.lib.tasker.DefaultThreads;
 import org.screamingsandals.lib.tasker.Tasker;
 import org.screamingsandals.lib.tasker.TaskerTime;
+import org.screamingsandals.lib.tasker.task.Task;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
 import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
@@ -67,11 +70,15 @@ import org.screamingsandals.lib.utils.reflect.Reflect;
 import org.screamingsandals.lib.npc.skin.NPCSkin;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -99,6 +106,21 @@ public class AIService implements Listener {
         @Getter
         AIConfig settings;
 
+        AIScheduler scheduler;
+
+        private final VoxelOccupancy occupancy = new VoxelOccupancy();
+
+        @Getter(AccessLevel.NONE)
+        private final Deque<NPC> idleNPCs = new ArrayDeque<>();
+        @Getter(AccessLevel.NONE)
+        private final Set<NPC> releasing = new HashSet<>();
+        @Getter(AccessLevel.NONE)
+        private final Queue<SpawnRequest> pendingSpawns = new ArrayDeque<>();
+        @Getter(AccessLevel.NONE)
+        private final AtomicInteger nextId = new AtomicInteger();
+        @Getter(AccessLevel.NONE)
+        private Task spawnTask;
+
         public static AIService getInstance() {
                 return instance;
         }
@@ -117,6 +139,17 @@ public class AIService implements Listener {
                         if (registry == null) {
                                 registry = new NPCRegistryWrapper();
                                 SBA.getInstance().registerListener(this);
+                                SBA.getInstance().registerListener(occupancy);
+                                prewarm();
+                        }
+                        if (spawnTask == null) {
+                                spawnTask = Tasker.runRepeatedly(DefaultThreads.GLOBAL_THREAD, this::spawnPending, 1,
+                                                TaskerTime.TICKS);
+                        }
+                        if (scheduler == null) {
+                                scheduler = new AIScheduler(settings.tickBudgetMillis(), settings.farDistance(),
+                                                settings.farIntervalMultiplier());
+                                scheduler.start();
                         }
 
                 }
@@ -131,10 +164,22 @@ public class AIService implements Listener {
 
         @OnPreDisable
         public void onDisable() {
+                if (spawnTask != null) {
+                        spawnTask.cancel();
+                        spawnTask = null;
+                }
+                pendingSpawns.forEach(request -> request.future.cancel(false));
+                pendingSpawns.clear();
+                idleNPCs.clear();
+                releasing.clear();
                 if (registry != null) {
                         registry.getRegistry().deregisterAll();
                         registry = null;
                 }
+                if (scheduler != null) {
+                        scheduler.stop();
+                        scheduler = null;
+                }
         }
 
         public NPC getNPC(Entity e) {
@@ -148,38 +193,16 @@ public class AIService implements Listener {
                 return spawnAI(loc, Strategy.ANY);
         }
 
+        /**
+         * Queues the spawn of an AI player, at most {@link AIConfig#spawnsPerTick()} AI players are spawned per tick.
+         * Pooled NPCs are reused when available.
+         *
+         * @return a future completed with the AI player once it is ready to join a game, with null if AI is disabled
+         */
         public CompletableFuture<Player> spawnAI(Location loc, Strategy strategy) {
                 CompletableFuture<Player> CompletableFuture = new CompletableFuture<Player>();
                 if (registry != null) {
-                        AtomicInteger count = new AtomicInteger(1);
-                        registry.getRegistry().forEach(npc -> count.incrementAndGet());
-                        final NPC npc = registry.getRegistry().createNPC(EntityType.PLAYER, "AI_" + count.get());
-                        FakeDeathTrait fdt = npc.getOrAddTrait(FakeDeathTrait.class);
-                        fdt.setStrategy(strategy);
-
-                        npc.spawn(loc);
-                        npc.setProtected(false);
-
-                        npc.data().set(NPC.Metadata.REMOVE_FROM_PLAYERLIST, false);
-                        npc.data().set(NPC.Metadata.KEEP_CHUNK_LOADED, true);
-                        npc.data().set(NPC.Metadata.SHOULD_SAVE, false);
-                        npc.data().set(NPC.Metadata.COLLIDABLE, true);
-                        npc.data().set(NPC.Metadata.DISABLE_DEFAULT_STUCK_ACTION, true);
-
-                        npc.getNavigator().getLocalParameters().attackDelayTicks(1).useNewPathfinder(true);
-                        npc.getNavigator().getLocalParameters().distanceMargin(1);
-                        npc.getNavigator().getLocalParameters().attackRange(1.5f);
-                        npc.getNavigator().getLocalParameters().avoidWater(true);
-                        npc.addTrait(new BridgePillarTrait());
-                        npc.addTrait(new BedwarsBlockPlace());
-                        npc.getOrAddTrait(SkinTrait.class).setSkinName(settings.skin());
-
-                        Tasker.runDelayed(DefaultThreads.GLOBAL_THREAD, () -> {
-                                Player ai = (Player) (npc.getEntity());
-                                ai.setCanPickupItems(true);
-                                CompletableFuture.complete(ai);
-                        }, settings.delay(), TaskerTime.TICKS);
-
+                        pendingSpawns.add(new SpawnRequest(loc, strategy, CompletableFuture));
                 } else {
                         CompletableFuture.complete(null);
                 }
@@ -187,6 +210,115 @@ public class AIService implements Listener {
                 return CompletableFuture;
         }
 
+        /**
+         * Hands the NPC back to the pool, or destroys it if the pool is full.
+         * The NPC is despawned and reset on the next tick, so this is safe to call from despawn and leave handlers.
+         */
+        public void release(NPC npc) {
+                if (npc == null || registry == null || !releasing.add(npc)) {
+                        return;
+                }
+                Tasker.run(DefaultThreads.GLOBAL_THREAD, () -> {
+                        releasing.remove(npc);
+                        if (registry == null || idleNPCs.contains(npc)) {
+                                return;
+                        }
+                        if (idleNPCs.size() >= settings.poolSize()) {
+                                npc.destroy();
+                                return;
+                        }
+                        if (npc.isSpawned()) {
+                                final var entity = npc.getEntity();
+                                if (entity instanceof Player) {
+                                        ((Player) entity).getInventory().clear();
+                                }
+                                npc.despawn(DespawnReason.PLUGIN);
+                        }
+                        resetTraits(npc);
+                        idleNPCs.add(npc);
+                });
+        }
+
+        private void prewarm() {
+                while (idleNPCs.size() < settings.poolSize()) {
+                        idleNPCs.add(createNPC());
+                }
+        }
+
+        private NPC createNPC() {
+                final NPC npc = registry.getRegistry().createNPC(EntityType.PLAYER, "AI_" + nextId.incrementAndGet());
+                npc.getOrAddTrait(FakeDeathTrait.class);
+                npc.setProtected(false);
+
+                npc.data().set(NPC.Metadata.REMOVE_FROM_PLAYERLIST, false);
+                npc.data().set(NPC.Metadata.KEEP_CHUNK_LOADED, true);
+                npc.data().set(NPC.Metadata.SHOULD_SAVE, false);
+                npc.data().set(NPC.Metadata.COLLIDABLE, true);
+                npc.data().set(NPC.Metadata.DISABLE_DEFAULT_STUCK_ACTION, true);
+
+                npc.getNavigator().getLocalParameters().attackDelayTicks(1).useNewPathfinder(true);
+                npc.getNavigator().getLocalParameters().distanceMargin(1);
+                npc.getNavigator().getLocalParameters().attackRange(1.5f);
+                npc.getNavigator().getLocalParameters().avoidWater(true);
+                npc.addTrait(new BridgePillarTrait());
+                npc.addTrait(new BedwarsBlockPlace());
+                npc.getOrAddTrait(SkinTrait.class).setSkinName(settings.skin());
+                return npc;
+        }
+
+        private void resetTraits(NPC npc) {
+                // the block placing traits keep state of the last game
+                npc.removeTrait(BridgePillarTrait.class);
+                npc.removeTrait(BedwarsBlockPlace.class);
+                npc.addTrait(new BridgePillarTrait());
+                npc.addTrait(new BedwarsBlockPlace());
+                npc.getOrAddTrait(Inventory.class).setContents(new ItemStack[36]);
+                npc.getOrAddTrait(FakeDeathTrait.class).reset();
+        }
+
+        private void spawnPending() {
+                final var spawnsPerTick = Math.max(1, settings.spawnsPerTick());
+                for (int i = 0; i < spawnsPerTick && !pendingSpawns.isEmpty(); i++) {
+                        final var request = pendingSpawns.poll();
+                        if (request.future.isDone()) {
+                                continue;
+                        }
+                        var npc = idleNPCs.poll();
+                        // NPCs spawned before already have their skin, they only need a tick to be set up
+                        final var delay = npc != null && npc.getOrAddTrait(FakeDeathTrait.class).getPlayerObject() != null
+                                        ? 1L
+                                        : settings.delay();
+                        if (npc == null) {
+                                npc = createNPC();
+                        }
+                        npc.getOrAddTrait(FakeDeathTrait.class).setStrategy(request.strategy);
+                        npc.spawn(request.location);
+
+                        final NPC spawned = npc;
+                        Tasker.runDelayed(DefaultThreads.GLOBAL_THREAD, () -> {
+                                if (!spawned.isSpawned()) {
+                                        request.future.complete(null);
+                                        return;
+                                }
+                                Player ai = (Player) (spawned.getEntity());
+                                ai.setCanPickupItems(true);
+                                request.future.complete(ai);
+                        }, delay, TaskerTime.TICKS);
+                }
+        }
+
+        private static class SpawnRequest {
+                private final Location location;
+                private final Strategy strategy;
+                private final CompletableFuture<Player> future;
+
+                private SpawnRequest(Location location, Strategy strategy, CompletableFuture<Player> future) {
+                        this.location = location;
+                        this.strategy = strategy;
+                        this.future = future;
+                }
+        }
+
         public boolean isNPC(Player player) {
                 return registry != null && registry.getRegistry().isNPC(player);
         }
@@ -236,7 +368,7 @@ public class AIService implements Listener {
                         if (allAI) {
                                 for (Player p : new ArrayList<>(game.getConnectedPlayers())) {
                                         game.leaveFromGame(p);
-                                        getNPC(p).destroy();
+                                        release(getNPC(p));
                                 }
                         }
                 });
@@ -297,11 +429,7 @@ public class AIService implements Listener {
 
                                         Game g = Main.getInstance().getGameOfPlayer(player);
                                         g.leaveFromGame(player);
-                                        try {
-                                                npc.destroy();
-                                        } catch (Exception e) {
-                                                
-                                        }
+                                        release(npc);
 
                                 } else if (event.getReason() == DespawnReason.REMOVAL
                                                 || event.getReason() == DespawnReason.PLUGIN) {
@@ -316,7 +444,7 @@ public class AIService implements Listener {
         @EventHandler
         public void onBedWarsPlayerLeave(BedwarsPlayerLeaveEvent e) {
                 if (isNPC(e.getPlayer()))
-                        getNPC(e.getPlayer()).destroy();
+                        release(getNPC(e.getPlayer()));
         }
 
         @EventHandler
@@ -353,38 +481,11 @@ public class AIService implements Listener {
                 if (npc != null) {
                         npc.getNavigator().cancelNavigation();
                 }
-                manualDispatchEvent(pde, Main.getInstance());
-                manualDispatchEvent(pde, SBA.getPluginInstance());
+                EventDispatchTable.dispatch(pde, Main.getInstance());
+                EventDispatchTable.dispatch(pde, SBA.getPluginInstance());
 
-                manualDispatchEvent(pre, Main.getInstance());
-                manualDispatchEvent(pre, SBA.getPluginInstance());
-        }
-
-        private void manualDispatchEvent(Event evt, Plugin p) {
-                ArrayList<RegisteredListener> bedwarsHandler = HandlerList.getRegisteredListeners(p);
-
-                ArrayList<Method> methods = new ArrayList<>();
-                for (RegisteredListener handle : bedwarsHandler) {
-                        var listener = handle.getListener();
-                        if (listener != null) {
-                                var clazz = listener.getClass();
-                                for (var method : clazz.getMethods()) {
-                                        if (!methods.contains(method))
-                                                if (method.getParameterTypes().length == 1
-                                                                && method.getParameterTypes()[0]
-                                                                                .equals(evt.getClass())) {
-                                                        try {
-                                                                methods.add(method);
-                                                                method.invoke(listener, evt);
-                                                        } catch (IllegalAccessException | IllegalArgumentException
-                                                                        | InvocationTargetException e) {
-                                                                // TODO Auto-generated catch block
-                                                                e.printStackTrace();
-                                                        }
-                                                }
-                                }
-                        }
-                }
+                EventDispatchTable.dispatch(pre, Main.getInstance());
+                EventDispatchTable.dispatch(pre, SBA.getPluginInstance());
         }
 
 }
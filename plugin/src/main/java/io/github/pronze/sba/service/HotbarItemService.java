@@ -0,0 +1,134 @@
+package io.github.pronze.sba.service;
+
+import io.github.pronze.sba.SBA;
+import io.github.pronze.sba.config.ConfigSnapshot;
+import io.github.pronze.sba.config.SBAConfig;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.screamingsandals.lib.plugin.ServiceManager;
+import org.screamingsandals.lib.utils.annotations.Service;
+import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Builds the config defined hotbar items once per configuration load.
+ * The teleporter and tracker are tagged with a persistent data entry so that interact handlers can recognise them
+ * without rebuilding and comparing full item stacks. The leave item belongs to BedWars and is left untagged.
+ */
+@Service
+@ServiceDependencies(dependsOn = SBAConfig.class)
+public class HotbarItemService {
+    private static final String TAG = "hotbar-item";
+
+    public enum HotbarItem {
+        TELEPORTER,
+        TRACKER,
+        LEAVE
+    }
+
+    private volatile Registry registry;
+
+    public static HotbarItemService getInstance() {
+        return ServiceManager.get(HotbarItemService.class);
+    }
+
+    /**
+     * @return a copy of the item, safe to put in an inventory
+     */
+    @NotNull
+    public ItemStack get(@NotNull HotbarItem item) {
+        return registry().items.get(item).clone();
+    }
+
+    /**
+     * @return the hotbar item the stack was built from, null if the stack is not a hotbar item
+     */
+    @Nullable
+    public HotbarItem identify(@Nullable ItemStack stack) {
+        if (stack == null) {
+            return null;
+        }
+        final var registry = registry();
+        HotbarItem candidate = null;
+        for (var entry : registry.items.entrySet()) {
+            if (entry.getValue().getType() == stack.getType()) {
+                candidate = entry.getKey();
+                break;
+            }
+        }
+        if (candidate == null) {
+            return null;
+        }
+        if (registry.key != null) {
+            if (!stack.hasItemMeta()) {
+                return null;
+            }
+            final var tag = stack.getItemMeta().getPersistentDataContainer().get(registry.key, PersistentDataType.STRING);
+            if (tag != null) {
+                try {
+                    return HotbarItem.valueOf(tag);
+                } catch (IllegalArgumentException ignored) {
+                    return null;
+                }
+            }
+        }
+        // untagged items, or servers without persistent data containers
+        for (var entry : registry.items.entrySet()) {
+            if (entry.getValue().isSimilar(stack)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    public boolean is(@Nullable ItemStack stack, @NotNull HotbarItem item) {
+        return identify(stack) == item;
+    }
+
+    private Registry registry() {
+        final var snapshot = SBAConfig.getInstance().snapshot();
+        var current = registry;
+        if (current == null || current.snapshot != snapshot) {
+            current = new Registry(snapshot);
+            registry = current;
+        }
+        return current;
+    }
+
+    private static class Registry {
+        private final ConfigSnapshot snapshot;
+        private final Map<HotbarItem, ItemStack> items = new EnumMap<>(HotbarItem.class);
+        private final NamespacedKey key;
+
+        private Registry(ConfigSnapshot snapshot) {
+            this.snapshot = snapshot;
+            final var spectator = SBAConfig.getInstance().spectator();
+            items.put(HotbarItem.TELEPORTER, spectator.teleporter().get());
+            items.put(HotbarItem.TRACKER, spectator.tracker().get());
+            items.put(HotbarItem.LEAVE, spectator.leave().get());
+
+            NamespacedKey key = null;
+            try {
+                key = new NamespacedKey(SBA.getPluginInstance(), TAG);
+                tag(key, HotbarItem.TELEPORTER);
+                tag(key, HotbarItem.TRACKER);
+            } catch (Throwable ignored) {
+                // persistent data containers are not available, fall back to isSimilar
+                key = null;
+            }
+            this.key = key;
+        }
+
+        private void tag(NamespacedKey key, HotbarItem item) {
+            final var stack = items.get(item);
+            final var meta = stack.getItemMeta();
+            meta.getPersistentDataContainer().set(key, PersistentDataType.STRING, item.name());
+            stack.setItemMeta(meta);
+        }
+    }
+}
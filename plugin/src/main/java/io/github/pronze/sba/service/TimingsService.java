@@ -0,0 +1,145 @@
+package io.github.pronze.sba.service;
+
+import io.github.pronze.sba.config.SBAConfig;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.screamingsandals.lib.plugin.ServiceManager;
+import org.screamingsandals.lib.utils.annotations.Service;
+import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
+import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lightweight profiler for the repeating tasks of SBA.
+ * Callers wrap their work with {@link #start()} and {@link #stop(String, String, long)}, when timings are disabled
+ * {@link #start()} returns 0 and {@link #stop(String, String, long)} returns immediately.
+ */
+@Service
+@ServiceDependencies(dependsOn = SBAConfig.class)
+public class TimingsService {
+    private static final int SAMPLE_WINDOW = 200;
+
+    @Getter
+    private volatile boolean enabled;
+    private final Map<String, TimingRecord> sections = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, TimingRecord>> arenaSections = new ConcurrentHashMap<>();
+
+    public static TimingsService getInstance() {
+        return ServiceManager.get(TimingsService.class);
+    }
+
+    @OnPostEnable
+    public void onPostEnable() {
+        enabled = SBAConfig.getInstance().getBoolean("debug.timings", false);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            reset();
+        }
+    }
+
+    public void reset() {
+        sections.clear();
+        arenaSections.clear();
+    }
+
+    /**
+     * Marks the beginning of a timed section.
+     *
+     * @return the start timestamp to pass to {@link #stop(String, String, long)}, 0 if timings are disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since {@code start} for the given section.
+     *
+     * @param section the name of the timed section, usually the simple name of the task class
+     * @param arena   the arena the work was done for, null if the section is not bound to an arena
+     * @param start   the value returned by {@link #start()}
+     */
+    public void stop(@NotNull String section, @Nullable String arena, long start) {
+        if (start == 0L) {
+            return;
+        }
+        final var elapsed = System.nanoTime() - start;
+        sections.computeIfAbsent(section, k -> new TimingRecord()).record(elapsed);
+        if (arena != null) {
+            arenaSections.computeIfAbsent(section, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(arena, k -> new TimingRecord())
+                    .record(elapsed);
+        }
+    }
+
+    @NotNull
+    public Map<String, TimingRecord> getSections() {
+        return Map.copyOf(sections);
+    }
+
+    @NotNull
+    public Map<String, TimingRecord> getArenaSections(@NotNull String section) {
+        final var records = arenaSections.get(section);
+        return records == null ? Map.of() : Map.copyOf(records);
+    }
+
+    @Nullable
+    public TimingRecord getSection(@NotNull String section) {
+        return sections.get(section);
+    }
+
+    /**
+     * Rolling statistics over the last {@value SAMPLE_WINDOW} invocations of a section.
+     */
+    public static class TimingRecord {
+        private final long[] samples = new long[SAMPLE_WINDOW];
+        private int cursor;
+        private int size;
+        private long invocations;
+        private long max;
+
+        private synchronized void record(long nanos) {
+            samples[cursor] = nanos;
+            cursor = (cursor + 1) % SAMPLE_WINDOW;
+            if (size < SAMPLE_WINDOW) {
+                size++;
+            }
+            invocations++;
+            max = Math.max(max, nanos);
+        }
+
+        public synchronized long getInvocations() {
+            return invocations;
+        }
+
+        public synchronized long getMax() {
+            return max;
+        }
+
+        public synchronized long getAverage() {
+            if (size == 0) {
+                return 0L;
+            }
+            long total = 0L;
+            for (int i = 0; i < size; i++) {
+                total += samples[i];
+            }
+            return total / size;
+        }
+
+        public synchronized long getP99() {
+            if (size == 0) {
+                return 0L;
+            }
+            final var sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.min(size - 1, (int) Math.ceil(size * 0.99) - 1)];
+        }
+    }
+}
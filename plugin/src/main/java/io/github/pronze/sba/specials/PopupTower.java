@@ -1,6 +1,7 @@
 package io.github.pronze.sba.specials;
 
 import io.github.pronze.sba.utils.Logger;
+import io.github.pronze.sba.utils.citizens.VoxelOccupancy;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.Location;
@@ -162,6 +163,7 @@ public class PopupTower {
                 continue;
             }
             ladder.setType(Material.LADDER, false);
+            VoxelOccupancy.blockChanged(ladder);
             game.getRegion().removeBlockBuiltDuringGame(lastLoc);
             game.getRegion().addBuiltDuringGame(lastLoc);
             if (!Main.isLegacy()) {
@@ -186,6 +188,7 @@ public class PopupTower {
         }
         game.getRegion().removeBlockBuiltDuringGame(loc);
         loc.getBlock().setType(mat);
+        VoxelOccupancy.blockChanged(loc.getBlock());
 
         if (Main.isLegacy() && legacyData != 0) {
             var block = loc.getBlock();
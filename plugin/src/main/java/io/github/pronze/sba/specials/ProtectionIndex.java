@@ -0,0 +1,101 @@
+package io.github.pronze.sba.specials;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable set of block aligned boxes protected from block placement in a game.
+ * Boxes are packed into a single int array sorted by their minimum X coordinate, a lookup binary searches the
+ * first box which may contain the block and scans the few boxes overlapping its X coordinate without allocating.
+ */
+public class ProtectionIndex {
+    private static final int STRIDE = 6;
+    public static final ProtectionIndex EMPTY = new ProtectionIndex(new int[0], 0);
+
+    /**
+     * minX, maxX, minY, maxY, minZ, maxZ of every box, inclusive.
+     */
+    private final int[] boxes;
+    private final int maxWidth;
+
+    private ProtectionIndex(int[] boxes, int maxWidth) {
+        this.boxes = boxes;
+        this.maxWidth = maxWidth;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        final int count = boxes.length / STRIDE;
+        // first box whose minX could still reach x
+        int low = 0;
+        int high = count;
+        final int from = x - maxWidth;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (boxes[mid * STRIDE] < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low * STRIDE; i < boxes.length && boxes[i] <= x; i += STRIDE) {
+            if (x <= boxes[i + 1]
+                    && y >= boxes[i + 2] && y <= boxes[i + 3]
+                    && z >= boxes[i + 4] && z <= boxes[i + 5]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return boxes.length == 0;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<int[]> boxes = new ArrayList<>();
+
+        /**
+         * Protects every block whose distance to the center block is strictly lower than half the diameter on each axis.
+         *
+         * @param x        block X of the center
+         * @param y        block Y of the center
+         * @param z        block Z of the center
+         * @param diameter the configured protection diameter, nothing is protected if it is not positive
+         */
+        public Builder add(int x, int y, int z, double diameter) {
+            if (diameter <= 0) {
+                return this;
+            }
+            // largest integer offset strictly lower than half the diameter
+            final int radius = (int) Math.ceil(diameter / 2) - 1;
+            if (radius < 0) {
+                return this;
+            }
+            boxes.add(new int[]{x - radius, x + radius, y - radius, y + radius, z - radius, z + radius});
+            return this;
+        }
+
+        @NotNull
+        public ProtectionIndex build() {
+            if (boxes.isEmpty()) {
+                return EMPTY;
+            }
+            boxes.sort(Comparator.comparingInt(box -> box[0]));
+            final int[] packed = new int[boxes.size() * STRIDE];
+            int maxWidth = 0;
+            for (int i = 0; i < boxes.size(); i++) {
+                final var box = boxes.get(i);
+                System.arraycopy(box, 0, packed, i * STRIDE, STRIDE);
+                maxWidth = Math.max(maxWidth, box[1] - box[0]);
+            }
+            return new ProtectionIndex(packed, maxWidth);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.pronze.sba.specials;
 
 import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
 import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.lib.utils.annotations.Service;
 import org.screamingsandals.lib.utils.annotations.ServiceDependencies;
@@ -9,6 +10,14 @@ import org.screamingsandals.lib.utils.annotations.methods.OnPostEnable;
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.config.SBAConfig;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prevents blocks from being placed around spawners, team spawns and stores.
+ * The protected regions of each game are precomputed into a {@link ProtectionIndex} when the game starts,
+ * call {@link #rebuild(Game)} after editing the map of a running game.
+ */
 @Service
 @ServiceDependencies(dependsOn = SBAConfig.class)
 public class SpawnerProtection {
@@ -17,6 +26,8 @@ public class SpawnerProtection {
     private double spawnerProtectionSize = 0;
     private double teamProtectionSize = 0;
     private double storeProtectionSize = 0;
+    private final Map<String, ProtectionIndex> indexes = new ConcurrentHashMap<>();
+
     @OnPostEnable
     public void registerProtection() {
         if(SBA.isBroken())return;
@@ -25,75 +36,53 @@ public class SpawnerProtection {
         spawnerProtectionSize=SBAConfig.getInstance().getDouble("automatic-protection.spawner-diameter", 0);
         teamProtectionSize=SBAConfig.getInstance().getDouble("automatic-protection.team-spawn-diameter", 0);
         storeProtectionSize=SBAConfig.getInstance().getDouble("automatic-protection.store-diameter", 0);
+        indexes.clear();
     }
 
-    
-    public boolean isProtected(Game g, Location l)
-    {
-        return isProtectedSpawner(g,l) || isProtectedTeam(g,l) || isProtectedStore(g,l);
-    }
-    public boolean isProtectedSpawner(Game g, Location l)
+    /**
+     * Recomputes the protected regions of the game from its current spawners, teams and stores.
+     */
+    public void rebuild(@NotNull Game g)
     {
-        if (spawnerProtectionSize == 0)
-            return false;
-        else {
-            double criteria = spawnerProtectionSize / 2;
-            for (var spawner : g.getItemSpawners()) {
-                var spawnerBlock = spawner.getLocation().getBlock().getLocation();
-                double dx = Math.abs(spawnerBlock.getX() - l.getX());
-                double dy = Math.abs(spawnerBlock.getY() - l.getY());
-                double dz = Math.abs(spawnerBlock.getZ() - l.getZ());
-
-                if (dx < criteria && dy < criteria && dz < criteria) {
-                    return true;
-                }
-            }
+        final var builder = ProtectionIndex.builder();
+        for (var spawner : g.getItemSpawners()) {
+            final var l = spawner.getLocation();
+            builder.add(l.getBlockX(), l.getBlockY(), l.getBlockZ(), spawnerProtectionSize);
+        }
+        for (var team : g.getAvailableTeams()) {
+            final var l = team.getTeamSpawn();
+            builder.add(l.getBlockX(), l.getBlockY(), l.getBlockZ(), teamProtectionSize);
+        }
+        for (var store : g.getGameStores()) {
+            final var l = store.getStoreLocation();
+            builder.add(l.getBlockX(), l.getBlockY(), l.getBlockZ(), storeProtectionSize);
         }
-        return false;
+        indexes.put(g.getName(), builder.build());
     }
-    public boolean isProtectedTeam(Game g, Location l)
-    {
-        if (teamProtectionSize == 0)
-            return false;
-        else {
-            double criteria = teamProtectionSize / 2;
-            for (var team : g.getAvailableTeams()) {
-                var spawnerBlock = team.getTeamSpawn().getBlock().getLocation();
-                double dx = Math.abs(spawnerBlock.getX() - l.getX());
-                double dy = Math.abs(spawnerBlock.getY() - l.getY());
-                double dz = Math.abs(spawnerBlock.getZ() - l.getZ());
 
-                if (dx < criteria && dy < criteria && dz < criteria) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    /**
+     * Drops the protected regions of the game, they are rebuilt on the next query.
+     */
+    public void invalidate(@NotNull Game g)
+    {
+        indexes.remove(g.getName());
     }
-    public boolean isProtectedStore(Game g, Location l)
+
+    public boolean isProtected(Game g, Location l)
     {
-        if(storeProtectionSize==0)
-            return false;
-        else
-        {
-            double criteria = storeProtectionSize / 2;
-            for( var store : g.getGameStores())
-            {
-                var spawnerBlock = store.getStoreLocation().getBlock().getLocation();
-                double dx = Math.abs(spawnerBlock.getX() - l.getX());
-                double dy = Math.abs(spawnerBlock.getY() - l.getY());
-                double dz = Math.abs(spawnerBlock.getZ() - l.getZ());
+        return isProtected(g, l.getBlockX(), l.getBlockY(), l.getBlockZ());
+    }
 
-                if(dx < criteria && dy < criteria && dz < criteria)
-                {
-                    return true;
-                }
-            }
+    public boolean isProtected(Game g, int x, int y, int z)
+    {
+        var index = indexes.get(g.getName());
+        if (index == null) {
+            rebuild(g);
+            index = indexes.get(g.getName());
         }
-        return false;
+        return index.contains(x, y, z);
     }
 
-
     public static SpawnerProtection getInstance() {
         return instance;
     }
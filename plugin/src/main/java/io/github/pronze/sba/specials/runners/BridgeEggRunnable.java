@@ -2,6 +2,7 @@ package io.github.pronze.sba.specials.runners;
 
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.utils.SBAUtil;
+import io.github.pronze.sba.utils.citizens.VoxelOccupancy;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -65,6 +66,7 @@ public class BridgeEggRunnable extends BukkitRunnable {
     public void setBlock(Block block) {
         if (block.getType() == Material.AIR && game.isLocationInArena(block.getLocation())) {
             block.setType(wool);
+            VoxelOccupancy.blockChanged(block);
 
             if (Main.isLegacy() && legacyData != 0) {
                 Reflect.getMethod(block, "setData", byte.class).invoke(legacyData);
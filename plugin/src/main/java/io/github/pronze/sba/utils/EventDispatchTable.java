@@ -0,0 +1,113 @@
+package io.github.pronze.sba.utils;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calls the listener methods of a single plugin for an event without going through the server's event bus, used to
+ * fake events such as the death of AI players for BedWars and SBA only.
+ * The methods accepting an event class are looked up once per plugin and event class and kept as method handles until
+ * the listeners of a plugin are registered again, see {@link #invalidate()}.
+ */
+public final class EventDispatchTable {
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Event.class);
+    private static final Map<Key, List<MethodHandle>> TABLE = new ConcurrentHashMap<>();
+
+    private EventDispatchTable() {
+    }
+
+    /**
+     * Invokes every public method of the plugin's listeners taking exactly the class of the event as parameter.
+     * A method shared by several instances of the same listener class is only invoked on the first one.
+     */
+    public static void dispatch(@NotNull Event event, @NotNull Plugin plugin) {
+        final var handlers = TABLE.computeIfAbsent(new Key(plugin, event.getClass()), EventDispatchTable::resolve);
+        for (var handler : handlers) {
+            try {
+                handler.invokeExact(event);
+            } catch (Throwable t) {
+                Logger.warn("Exception while dispatching {}: {}", event.getEventName(), t);
+            }
+        }
+    }
+
+    /**
+     * Drops the resolved handlers, to be called whenever listeners are registered or unregistered.
+     */
+    public static void invalidate() {
+        TABLE.clear();
+    }
+
+    private static List<MethodHandle> resolve(Key key) {
+        final var handlers = new ArrayList<MethodHandle>();
+        final var methods = new HashSet<Method>();
+        for (var registered : HandlerList.getRegisteredListeners(key.plugin)) {
+            final var listener = registered.getListener();
+            if (listener == null) {
+                continue;
+            }
+            for (var method : listener.getClass().getMethods()) {
+                if (method.getParameterCount() != 1 || !method.getParameterTypes()[0].equals(key.eventClass)
+                        || !methods.add(method)) {
+                    continue;
+                }
+                try {
+                    handlers.add(unreflect(method).bindTo(listener).asType(HANDLER_TYPE));
+                } catch (Throwable t) {
+                    Logger.warn("Could not resolve {} of {}: {}", method.getName(), listener.getClass().getSimpleName(), t);
+                }
+            }
+        }
+        return List.copyOf(handlers);
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // public method of a class which is not public itself
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        }
+    }
+
+    private static class Key {
+        private final Plugin plugin;
+        private final Class<?> eventClass;
+
+        private Key(Plugin plugin, Class<?> eventClass) {
+            this.plugin = plugin;
+            this.eventClass = eventClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final var key = (Key) o;
+            return plugin == key.plugin && eventClass == key.eventClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(plugin), eventClass);
+        }
+    }
+}
@@ -107,6 +107,8 @@ public class SBAUtil {
 
         } catch (Throwable t) {
             t.printStackTrace();
+        } finally {
+            EventDispatchTable.invalidate();
         }
     }
 
@@ -0,0 +1,143 @@
+package io.github.pronze.sba.utils.citizens;
+
+import io.github.pronze.sba.service.TimingsService;
+import io.github.pronze.sba.utils.Logger;
+import lombok.Getter;
+import org.screamingsandals.lib.tasker.DefaultThreads;
+import org.screamingsandals.lib.tasker.Tasker;
+import org.screamingsandals.lib.tasker.TaskerTime;
+import org.screamingsandals.lib.tasker.task.Task;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs the goal evaluations of the AI players under a per tick time budget.
+ * Bots submit themselves when their decision timer expires, each tick the queue is drained in submission order until
+ * the budget is spent; the remaining bots carry over to the next tick ahead of newly submitted ones.
+ * At least one evaluation runs per tick so that a single slow bot cannot stall the others.
+ * Only accessed from the server thread.
+ */
+public class AIScheduler {
+    public static final int GOAL_INTERVAL_TICKS = 5;
+
+    private final long budgetNanos;
+    private final int farDistance;
+    private final int farIntervalMultiplier;
+    private final Map<FakeDeathTrait, Long> queue = new LinkedHashMap<>();
+    private Task task;
+    private long currentTick;
+    private int nextPhase;
+
+    /**
+     * Goal evaluations that have been run.
+     */
+    @Getter
+    private long evaluations;
+    /**
+     * Evaluations that ran at least one tick after being submitted because the budget was exhausted.
+     */
+    @Getter
+    private long lateEvaluations;
+    /**
+     * Submissions dropped because the bot was still waiting for its previous evaluation.
+     */
+    @Getter
+    private long skippedEvaluations;
+    /**
+     * Decisions delayed because no real player was near the bot.
+     */
+    @Getter
+    private long throttledEvaluations;
+
+    /**
+     * @param budgetMillis          the time evaluations may take per tick, across all bots
+     * @param farDistance           the distance to the nearest real player above which a bot decides less often
+     * @param farIntervalMultiplier how much less often such bots decide
+     */
+    public AIScheduler(double budgetMillis, int farDistance, int farIntervalMultiplier) {
+        this.budgetNanos = (long) (Math.max(0D, budgetMillis) * 1_000_000D);
+        this.farDistance = farDistance;
+        this.farIntervalMultiplier = Math.max(1, farIntervalMultiplier);
+    }
+
+    public void start() {
+        stop();
+        task = Tasker.runRepeatedly(DefaultThreads.GLOBAL_THREAD, this::tick, 1, TaskerTime.TICKS);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+    }
+
+    /**
+     * @return the number of ticks a newly spawned bot should wait before its first decision, spreading bots spawned
+     * together over the decision interval
+     */
+    public int nextPhase() {
+        final var phase = nextPhase;
+        nextPhase = (nextPhase + 1) % GOAL_INTERVAL_TICKS;
+        return phase;
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Queues the goal evaluation of the bot.
+     *
+     * @return the number of ticks until the next decision of the bot is due
+     */
+    int submit(FakeDeathTrait trait) {
+        if (queue.putIfAbsent(trait, currentTick) != null) {
+            skippedEvaluations++;
+        }
+        if (farIntervalMultiplier > 1
+                && !trait.perception().hasRealPlayerNear(trait.getNPC().getEntity().getLocation(), farDistance)) {
+            throttledEvaluations++;
+            return GOAL_INTERVAL_TICKS * farIntervalMultiplier;
+        }
+        return GOAL_INTERVAL_TICKS;
+    }
+
+    private void tick() {
+        currentTick++;
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        final var timings = TimingsService.getInstance();
+        final var tickStart = System.nanoTime();
+        boolean ran = false;
+        while (!queue.isEmpty()) {
+            if (ran && System.nanoTime() - tickStart >= budgetNanos) {
+                // the remaining bots keep their place in the queue
+                break;
+            }
+            ran = true;
+            // polled one at a time, goals may cause other bots to be submitted
+            final var iterator = queue.entrySet().iterator();
+            final var entry = iterator.next();
+            iterator.remove();
+            final var trait = entry.getKey();
+            if (entry.getValue() < currentTick - 1) {
+                lateEvaluations++;
+            }
+
+            final var game = trait.getGame();
+            final var start = timings.start();
+            try {
+                trait.evaluateGoals();
+            } catch (Throwable t) {
+                Logger.warn("Exception while evaluating AI goals: {}", t);
+            }
+            evaluations++;
+            timings.stop("AIGoals", game == null ? null : game.getName(), start);
+        }
+    }
+}
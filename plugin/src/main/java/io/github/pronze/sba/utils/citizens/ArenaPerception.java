@@ -0,0 +1,265 @@
+package io.github.pronze.sba.utils.citizens;
+
+import io.github.pronze.sba.service.AIService;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.screamingsandals.bedwars.api.RunningTeam;
+import org.screamingsandals.bedwars.api.game.Game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * What the AI players of a game can see: the fighting players with their team, the real players and the dropped
+ * items of the arena.
+ * The snapshot is taken lazily, at most once per server tick, and bucketed into a grid so that every goal of every
+ * bot queries the same data instead of scanning the world around itself.
+ * Snapshots are only accessed from the server thread.
+ */
+public class ArenaPerception {
+    private static final long REBUILD_INTERVAL_MILLIS = 50L;
+    private static final int CELL_SIZE = 16;
+    private static final Map<Game, ArenaPerception> PERCEPTIONS = new WeakHashMap<>();
+
+    private final Game game;
+    private final Map<Long, List<Seen<Player>>> playerGrid = new HashMap<>();
+    private final Map<Long, List<Seen<Item>>> itemGrid = new HashMap<>();
+    private final List<Seen<Player>> players = new ArrayList<>();
+    private final Map<Long, List<Seen<Player>>> realPlayerGrid = new HashMap<>();
+    private final List<Seen<Player>> realPlayers = new ArrayList<>();
+    private final List<Seen<Item>> items = new ArrayList<>();
+    private final Map<Player, RunningTeam> teams = new HashMap<>();
+    private long lastRebuild;
+
+    private ArenaPerception(Game game) {
+        this.game = game;
+    }
+
+    @NotNull
+    public static ArenaPerception of(@NotNull Game game) {
+        return PERCEPTIONS.computeIfAbsent(game, ArenaPerception::new);
+    }
+
+    /**
+     * @return the team of the player when the snapshot was taken, null if the player was not fighting
+     */
+    @Nullable
+    public RunningTeam getTeam(@NotNull Player player) {
+        refresh();
+        return teams.get(player);
+    }
+
+    /**
+     * Gets the closest player to the AI player that belongs to another team and stands within range of a location.
+     *
+     * @param self   the AI player
+     * @param around the center of the searched area, either the AI player itself or its team's target block
+     * @param range  the half size of the searched cube
+     * @return the closest enemy, null if there is none
+     */
+    @Nullable
+    public Player getNearestEnemy(@NotNull Player self, @NotNull Location around, int range) {
+        refresh();
+        final var ownTeam = teams.get(self);
+        if (ownTeam == null) {
+            return null;
+        }
+        final var origin = self.getLocation();
+        final var nearest = new Nearest<Player>();
+        forEachNear(playerGrid, players, around, range, seen -> {
+            final var team = teams.get(seen.entity);
+            if (seen.entity == self || team == null || team.getName().equals(ownTeam.getName())
+                    || seen.entity.getGameMode() != GameMode.SURVIVAL) {
+                return;
+            }
+            nearest.offer(seen, origin);
+        });
+        return nearest.entity;
+    }
+
+    /**
+     * @return whether a player which is not an AI player stands within the cube of the given half size
+     */
+    public boolean hasRealPlayerNear(@NotNull Location around, int range) {
+        refresh();
+        final var found = new boolean[1];
+        forEachNear(realPlayerGrid, realPlayers, around, range, seen -> found[0] = true);
+        return found[0];
+    }
+
+    /**
+     * @return the dropped item closest to the location within the cube of the given half size, null if there is none
+     */
+    @Nullable
+    public Item getNearestItem(@NotNull Location around, int range) {
+        refresh();
+        final var nearest = new Nearest<Item>();
+        forEachNear(itemGrid, items, around, range, seen -> {
+            if (seen.entity.isValid()) {
+                nearest.offer(seen, around);
+            }
+        });
+        return nearest.entity;
+    }
+
+    /**
+     * @return the dropped items within the cube of the given half size around the location
+     */
+    @NotNull
+    public List<Item> getItemsNear(@NotNull Location around, int range) {
+        refresh();
+        final var result = new ArrayList<Item>();
+        forEachNear(itemGrid, items, around, range, seen -> {
+            if (seen.entity.isValid()) {
+                result.add(seen.entity);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Forces the snapshot to be taken again on the next query.
+     */
+    public void invalidate() {
+        lastRebuild = 0L;
+    }
+
+    private void refresh() {
+        final var now = System.currentTimeMillis();
+        if (now - lastRebuild < REBUILD_INTERVAL_MILLIS) {
+            return;
+        }
+        lastRebuild = now;
+        rebuild();
+    }
+
+    private void rebuild() {
+        playerGrid.clear();
+        itemGrid.clear();
+        players.clear();
+        realPlayerGrid.clear();
+        realPlayers.clear();
+        items.clear();
+        teams.clear();
+
+        final var aiService = AIService.getInstance();
+        for (var player : game.getConnectedPlayers()) {
+            final var seen = new Seen<>(player, player.getLocation());
+            if (!aiService.isNPC(player)) {
+                add(realPlayerGrid, realPlayers, seen);
+            }
+            final var team = game.getTeamOfPlayer(player);
+            if (team == null) {
+                continue;
+            }
+            teams.put(player, team);
+            add(playerGrid, players, seen);
+        }
+
+        final var world = game.getGameWorld();
+        if (world == null) {
+            return;
+        }
+        for (var item : world.getEntitiesByClass(Item.class)) {
+            final var location = item.getLocation();
+            if (game.isLocationInArena(location)) {
+                add(itemGrid, items, new Seen<>(item, location));
+            }
+        }
+    }
+
+    private static <T> void add(Map<Long, List<Seen<T>>> grid, List<Seen<T>> all, Seen<T> seen) {
+        all.add(seen);
+        grid.computeIfAbsent(key(cell(seen.x), cell(seen.y), cell(seen.z)), k -> new ArrayList<>()).add(seen);
+    }
+
+    private static <T> void forEachNear(Map<Long, List<Seen<T>>> grid, List<Seen<T>> all, Location around, int range,
+                                        Consumer<Seen<T>> action) {
+        final var world = around.getWorld();
+        final var minX = around.getX() - range;
+        final var minY = around.getY() - range;
+        final var minZ = around.getZ() - range;
+        final var maxX = around.getX() + range;
+        final var maxY = around.getY() + range;
+        final var maxZ = around.getZ() + range;
+
+        final Consumer<Seen<T>> filtered = seen -> {
+            if (seen.world == world && seen.x >= minX && seen.x <= maxX && seen.y >= minY && seen.y <= maxY
+                    && seen.z >= minZ && seen.z <= maxZ) {
+                action.accept(seen);
+            }
+        };
+
+        final var fromX = cell(minX);
+        final var fromY = cell(minY);
+        final var fromZ = cell(minZ);
+        final var toX = cell(maxX);
+        final var toY = cell(maxY);
+        final var toZ = cell(maxZ);
+        final var cells = (long) (toX - fromX + 1) * (toY - fromY + 1) * (toZ - fromZ + 1);
+        if (cells >= grid.size()) {
+            // the searched area covers more cells than are occupied
+            all.forEach(filtered);
+            return;
+        }
+        for (int x = fromX; x <= toX; x++) {
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    final var bucket = grid.get(key(x, y, z));
+                    if (bucket != null) {
+                        bucket.forEach(filtered);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int cell(double coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), CELL_SIZE);
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+    }
+
+    private static class Seen<T> {
+        private final T entity;
+        private final World world;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Seen(T entity, Location location) {
+            this.entity = entity;
+            this.world = location.getWorld();
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+        }
+    }
+
+    private static class Nearest<T> {
+        private T entity;
+        private double distanceSquared = Double.MAX_VALUE;
+
+        private void offer(Seen<T> seen, Location origin) {
+            final var dx = seen.x - origin.getX();
+            final var dy = seen.y - origin.getY();
+            final var dz = seen.z - origin.getZ();
+            final var candidate = dx * dx + dy * dy + dz * dz;
+            if (candidate < distanceSquared) {
+                distanceSquared = candidate;
+                entity = seen.entity;
+            }
+        }
+    }
+}
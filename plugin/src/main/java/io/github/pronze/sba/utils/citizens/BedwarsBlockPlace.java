@@ -1,7 +1,6 @@
 package io.github.pronze.sba.utils.citizens;
 
 import java.util.ArrayList;
-import java.util.List;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -19,6 +18,7 @@ import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.lib.utils.reflect.Reflect;
 
 import io.github.pronze.sba.config.SBAConfig;
+import io.github.pronze.sba.service.AIService;
 import io.github.pronze.sba.specials.SpawnerProtection;
 import io.github.pronze.sba.utils.Logger;
 import lombok.Getter;
@@ -48,15 +48,16 @@ public class BedwarsBlockPlace extends Trait {
     @Setter
     private boolean isInNeedOfBlock = false;
 
+    private static final BlockFace[] AGAINST_FACES = {
+            BlockFace.DOWN, BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH, BlockFace.SOUTH };
+
     public Block getAgainst(Block toPlace) {
-        for (Block testBlock : List.of(
-                toPlace.getRelative(BlockFace.DOWN),
-                toPlace.getRelative(BlockFace.EAST),
-                toPlace.getRelative(BlockFace.WEST),
-                toPlace.getRelative(BlockFace.NORTH),
-                toPlace.getRelative(BlockFace.SOUTH))) {
-            if (testBlock.getType().isSolid())
-                return testBlock;
+        final var occupancy = AIService.getInstance().getOccupancy();
+        final var world = toPlace.getWorld();
+        for (BlockFace face : AGAINST_FACES) {
+            if (occupancy.isSolid(world, toPlace.getX() + face.getModX(), toPlace.getY() + face.getModY(),
+                    toPlace.getZ() + face.getModZ()))
+                return toPlace.getRelative(face);
         }
         return null;
     }
@@ -68,7 +69,8 @@ public class BedwarsBlockPlace extends Trait {
         Player aiPlayer = (Player) npc.getEntity();
         ItemStack blockToPlace = getBlock(aiPlayer.getInventory());
 
-        if (blockToPlace != null) {
+        // the cache may not have seen a block set by other plugins
+        if (blockToPlace != null && AIService.getInstance().getOccupancy().verifyEmpty(block)) {
 
             var against = getAgainst(block);
             if (against != null) {
@@ -219,8 +221,7 @@ public class BedwarsBlockPlace extends Trait {
     }
 
     public boolean isEmpty(Block testBlock) {
-        return testBlock.getType() == Material.AIR || testBlock.getType() == Material.LAVA
-                || testBlock.getType() == Material.WATER;
+        return AIService.getInstance().getOccupancy().isEmpty(testBlock);
     }
 
     public ItemStack getBlock(Inventory inv) {
@@ -260,7 +261,8 @@ public class BedwarsBlockPlace extends Trait {
 
     public boolean teleport(Player aiPlayer, Location l) {
         try {
-            if (isEmpty(l.getBlock()) && isEmpty(l.getBlock().getRelative(BlockFace.UP))) {
+            final var occupancy = AIService.getInstance().getOccupancy();
+            if (occupancy.verifyEmpty(l.getBlock()) && occupancy.verifyEmpty(l.getBlock().getRelative(BlockFace.UP))) {
                 aiPlayer.teleport(l);
                 return true;
             }
@@ -1,15 +1,15 @@
 package io.github.pronze.sba.utils.citizens;
 
 import java.util.LinkedList;
-import java.util.List;
 
 import org.bukkit.Location;
-import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
+import io.github.pronze.sba.service.AIService;
 import io.github.pronze.sba.utils.Logger;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,6 +26,18 @@ public class BridgePillarTrait extends Trait {
 
     }
 
+    private static final int[][] HORIZONTAL = { { 1, 0 }, { -1, 0 }, { 0, -1 }, { 0, 1 } };
+    /**
+     * Blocks around the NPC that may block its path: the four horizontal neighbours from one block below its feet to
+     * two blocks above, and the block two above its feet.
+     */
+    private static final int[][] BREAKABLE_AROUND = {
+            { 1, 0, 0 }, { -1, 0, 0 }, { 0, 0, -1 }, { 0, 0, 1 },
+            { 1, -1, 0 }, { -1, -1, 0 }, { 0, -1, -1 }, { 0, -1, 1 },
+            { 1, 1, 0 }, { -1, 1, 0 }, { 0, 1, -1 }, { 0, 1, 1 },
+            { 1, 2, 0 }, { -1, 2, 0 }, { 0, 2, -1 }, { 0, 2, 1 },
+            { 0, 2, 0 } };
+
     private boolean isTracking = false;
     private BedwarsBlockPlace blockPlace;
     private LinkedList<Location> locations = new LinkedList<>();
@@ -62,45 +74,63 @@ public class BridgePillarTrait extends Trait {
     int timer = 0;
 
     public boolean isEmpty(Block testBlock) {
-        return testBlock.getType() == Material.AIR || testBlock.getType() == Material.LAVA
-                || testBlock.getType() == Material.WATER;
+        return occupancy().isEmpty(testBlock);
     }
 
     public boolean canBuildUp(Location loc) {
-        Block testBlock = loc.getBlock();
-        return (isEmpty(testBlock) && isEmpty(testBlock.getRelative(BlockFace.DOWN))
-                && isEmpty(testBlock.getRelative(BlockFace.UP)));
+        return canBuildUp(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    private boolean canBuildUp(World world, int x, int y, int z) {
+        final var occupancy = occupancy();
+        return occupancy.isEmpty(world, x, y, z) && occupancy.isEmpty(world, x, y - 1, z)
+                && occupancy.isEmpty(world, x, y + 1, z);
     }
 
     public boolean canMove(Location loc) {
-        Block testBlock = loc.getBlock();
-        return (isEmpty(testBlock.getRelative(BlockFace.DOWN))
-                && isEmpty(testBlock.getRelative(BlockFace.UP)));
+        return canMove(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    private boolean canMove(World world, int x, int y, int z) {
+        final var occupancy = occupancy();
+        return occupancy.isEmpty(world, x, y - 1, z) && occupancy.isEmpty(world, x, y + 1, z);
+    }
+
+    private VoxelOccupancy occupancy() {
+        return AIService.getInstance().getOccupancy();
+    }
+
+    private static double distanceSquared(int x, int y, int z, Location target) {
+        final var dx = x - target.getX();
+        final var dy = y - target.getY();
+        final var dz = z - target.getZ();
+        return dx * dx + dy * dy + dz * dz;
     }
 
     private Location tryFindingJump(Location currentLocation, Location target) {
-        Block b = currentLocation.getBlock();
-        Block toPlace = null;
+        final var world = currentLocation.getWorld();
+        final var x = currentLocation.getBlockX();
+        final var y = currentLocation.getBlockY();
+        final var z = currentLocation.getBlockZ();
+        int[] toPlace = null;
         double testDistance = Double.MAX_VALUE;
-        for (Block testBlock : List.of(
-                b.getRelative(BlockFace.EAST),
-                b.getRelative(BlockFace.WEST),
-                b.getRelative(BlockFace.NORTH),
-                b.getRelative(BlockFace.SOUTH))) {
-            var distanceToTarget = testBlock.getLocation().distance(target);
-            if (isEmpty(testBlock) && isEmpty(testBlock.getRelative(BlockFace.DOWN))
-                    && isEmpty(testBlock.getRelative(BlockFace.UP))) {
+        for (int[] offset : HORIZONTAL) {
+            final var testX = x + offset[0];
+            final var testZ = z + offset[1];
+            final var distanceToTarget = distanceSquared(testX, y, testZ, target);
+            if (canBuildUp(world, testX, y, testZ)) {
                 if (distanceToTarget < testDistance) {
                     testDistance = distanceToTarget;
-                    toPlace = testBlock;
+                    toPlace = offset;
                 }
             }
         }
         if (toPlace != null) {
-            if (blockPlace.placeBlockIfPossible(toPlace.getLocation())) {
-                npc.getEntity().teleport(toPlace.getLocation().clone().add(0, 1, 0));
+            final var location = new Location(world, x + toPlace[0], y, z + toPlace[1]);
+            if (blockPlace.placeBlockIfPossible(location)) {
+                blockPlace.teleport((Player) npc.getEntity(), location.clone().add(0, 1, 0));
             }
-            return toPlace.getLocation();
+            return location;
         }
 
         return null;
@@ -189,36 +219,40 @@ public class BridgePillarTrait extends Trait {
                 return true;
             }
         } else {
-            Block b = currentLocation.getBlock().getRelative(BlockFace.DOWN);
-            Block toPlace = null;
+            final var world = currentLocation.getWorld();
+            final var x = currentLocation.getBlockX();
+            final var y = currentLocation.getBlockY();
+            final var z = currentLocation.getBlockZ();
+            final var occupancy = occupancy();
+            // neighbours of the block the NPC stands on
+            final var belowY = y - 1;
+            int[] toPlace = null;
             double testDistance = Double.MAX_VALUE;
             Location toMove = null;
-            for (Block testBlock : List.of(
-                    b.getRelative(BlockFace.EAST),
-                    b.getRelative(BlockFace.WEST),
-                    b.getRelative(BlockFace.NORTH),
-                    b.getRelative(BlockFace.SOUTH))) {
-                if (!isEmpty(testBlock.getRelative(BlockFace.DOWN)) && canMove(testBlock.getLocation())) {
-                    var distanceToTarget = testBlock.getLocation().distance(target);
+            for (int[] offset : HORIZONTAL) {
+                final var testX = x + offset[0];
+                final var testZ = z + offset[1];
+                if (!occupancy.isEmpty(world, testX, belowY - 1, testZ) && canMove(world, testX, belowY, testZ)) {
+                    final var distanceToTarget = distanceSquared(testX, belowY, testZ, target);
+                    final var testLocation = new Location(world, testX, belowY, testZ);
                     if (distanceToTarget < testDistance
-                            && blockPlace.isPlacable(testBlock.getLocation())) {
+                            && blockPlace.isPlacable(testLocation)) {
                         testDistance = distanceToTarget;
-                        toMove = testBlock.getLocation().clone().add(0.5, 0, 0.5);
+                        toMove = testLocation.add(0.5, 0, 0.5);
                     }
                 }
             }
-            for (Block testBlock : List.of(
-                    b.getRelative(BlockFace.EAST),
-                    b.getRelative(BlockFace.WEST),
-                    b.getRelative(BlockFace.NORTH),
-                    b.getRelative(BlockFace.SOUTH))) {
-                var distanceToTarget = testBlock.getLocation().distance(target);
-
-                if (canBuildUp(testBlock.getLocation())) {
-                    if (distanceToTarget < testDistance && blockPlace.isPlacable(testBlock.getLocation())) {
+            for (int[] offset : HORIZONTAL) {
+                final var testX = x + offset[0];
+                final var testZ = z + offset[1];
+                final var distanceToTarget = distanceSquared(testX, belowY, testZ, target);
+
+                if (canBuildUp(world, testX, belowY, testZ)) {
+                    if (distanceToTarget < testDistance
+                            && blockPlace.isPlacable(new Location(world, testX, belowY, testZ))) {
                         testDistance = distanceToTarget;
                         toMove = null;
-                        toPlace = testBlock;
+                        toPlace = offset;
                     }
                 }
             }
@@ -227,44 +261,35 @@ public class BridgePillarTrait extends Trait {
                 teleport(aiPlayer, toMove);
                 return true;
             } else if (toPlace != null) {
-                if (blockPlace.placeBlockIfPossible(toPlace.getLocation())) {
+                final var placeLocation = new Location(world, x + toPlace[0], belowY, z + toPlace[1]);
+                if (blockPlace.placeBlockIfPossible(placeLocation)) {
                     Player aiPlayer = (Player) npc.getEntity();
-                    teleport(aiPlayer, blockLocation(toPlace.getLocation()).clone().add(0.5, 1, 0.5));
+                    teleport(aiPlayer, blockLocation(placeLocation).clone().add(0.5, 1, 0.5));
                     return true;
                 }
             } else {
 
                 // Is the path blocked
-                b = currentLocation.getBlock();
                 testDistance = Double.MAX_VALUE;
                 Block toBreak = null;
 
-                for (Block testBlock : List.of(
-                        b.getRelative(BlockFace.EAST),
-                        b.getRelative(BlockFace.WEST),
-                        b.getRelative(BlockFace.NORTH),
-                        b.getRelative(BlockFace.SOUTH),
-                        b.getRelative(BlockFace.EAST).getRelative(BlockFace.DOWN),
-                        b.getRelative(BlockFace.WEST).getRelative(BlockFace.DOWN),
-                        b.getRelative(BlockFace.NORTH).getRelative(BlockFace.DOWN),
-                        b.getRelative(BlockFace.SOUTH).getRelative(BlockFace.DOWN),
-                        b.getRelative(BlockFace.EAST).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.WEST).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.NORTH).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.SOUTH).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.EAST).getRelative(BlockFace.UP).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.WEST).getRelative(BlockFace.UP).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.NORTH).getRelative(BlockFace.UP).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.SOUTH).getRelative(BlockFace.UP).getRelative(BlockFace.UP),
-                        b.getRelative(BlockFace.UP).getRelative(BlockFace.UP))) {
-                    var distanceToTarget = testBlock.getLocation().distance(target);
-                    if (blockPlace.isBreakableBlock(testBlock)) {
-                        if (distanceToTarget < testDistance
-                                && blockPlace.isPlacable(testBlock.getLocation())) {
-                            testDistance = distanceToTarget;
-                            toBreak = testBlock;
-                            toMove = null;
-                        }
+                for (int[] offset : BREAKABLE_AROUND) {
+                    final var testX = x + offset[0];
+                    final var testY = y + offset[1];
+                    final var testZ = z + offset[2];
+                    if (!occupancy.isEmpty(world, testX, testY, testZ)) {
+                        // cheap part of isPlacable, checked before ray tracing the block
+                        continue;
+                    }
+                    final var distanceToTarget = distanceSquared(testX, testY, testZ, target);
+                    if (distanceToTarget >= testDistance) {
+                        continue;
+                    }
+                    final var testBlock = world.getBlockAt(testX, testY, testZ);
+                    if (blockPlace.isBreakableBlock(testBlock)
+                            && blockPlace.isPlacable(testBlock.getLocation())) {
+                        testDistance = distanceToTarget;
+                        toBreak = testBlock;
                     }
                 }
 
@@ -7,7 +7,6 @@ import java.util.Random;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -133,6 +132,12 @@ public class FakeDeathTrait extends Trait {
                 strategy = possibilities.get(r.nextInt(possibilities.size()));
             }
 
+            final var scheduler = AIService.getInstance().getScheduler();
+            if (scheduler != null) {
+                timer = scheduler.nextPhase();
+                timerPickup = scheduler.nextPhase();
+            }
+
             goals.clear();
             if (strategy != Strategy.NONE) {
                 goals.add(new DontCancelBlockBreak(this));
@@ -165,8 +170,30 @@ public class FakeDeathTrait extends Trait {
     int timerPickup = 5;
     private Game game;
 
-    List<Entity> getNearbyEntities(int range) {
-        return npc.getEntity().getNearbyEntities(range, range, range);
+    /**
+     * @return what the AI players of the game currently see, only valid while the NPC is in a game
+     */
+    ArenaPerception perception() {
+        return ArenaPerception.of(game);
+    }
+
+    Game getGame() {
+        return game;
+    }
+
+    /**
+     * Runs the first available goal, called by the {@link AIScheduler} once the decision of this bot is due.
+     */
+    void evaluateGoals() {
+        if (game == null || !npc.isSpawned()) {
+            return;
+        }
+        for (AiGoal goal : goals) {
+            if (goal.isAvailable()) {
+                goal.doGoal();
+                break;
+            }
+        }
     }
 
     @Override
@@ -180,29 +207,25 @@ public class FakeDeathTrait extends Trait {
             return;
 
         if (timer-- <= 0) {
-            timer = 5;
-            for (AiGoal goal : goals) {
-                if (goal.isAvailable()) {
-                    goal.doGoal();
-                    break;
-                }
+            final var scheduler = AIService.getInstance().getScheduler();
+            if (scheduler != null) {
+                timer = scheduler.submit(this);
+            } else {
+                timer = AIScheduler.GOAL_INTERVAL_TICKS;
+                evaluateGoals();
             }
         }
 
         if (timerPickup-- <= 0) {
             timerPickup = 5;
-            var entities = getNearbyEntities(3);
-            for (Entity entity : entities) {
-                if (entity instanceof Item) {
-                    Item itemEntity = (Item) entity;
-                    ItemStack is = itemEntity.getItemStack();
-                    int space = getAmountOfSpaceFor(is, getNpcEntity().getInventory());
-                    if (space > 0) {
-                        if (Version.isVersion(1, 12)) {
-                            new Pickup112().pick(itemEntity, is, space);
-                        } else {
-                            new Pickup18().pick(itemEntity, is, space);
-                        }
+            for (Item itemEntity : perception().getItemsNear(npc.getEntity().getLocation(), 3)) {
+                ItemStack is = itemEntity.getItemStack();
+                int space = getAmountOfSpaceFor(is, getNpcEntity().getInventory());
+                if (space > 0) {
+                    if (Version.isVersion(1, 12)) {
+                        new Pickup112().pick(itemEntity, is, space);
+                    } else {
+                        new Pickup18().pick(itemEntity, is, space);
                     }
                 }
             }
@@ -248,4 +271,14 @@ public class FakeDeathTrait extends Trait {
     public void joinBedwarsGame(Game game) {
         this.game = game;
     }
+
+    /**
+     * Forgets the game of the NPC, called while the NPC is despawned before it is handed out again.
+     */
+    public void reset() {
+        game = null;
+        goals.clear();
+        blockPlace_ = null;
+        strategy = Strategy.ANY;
+    }
 }
@@ -1,6 +1,5 @@
 package io.github.pronze.sba.utils.citizens;
 
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 
 import io.github.pronze.sba.utils.Logger;
@@ -23,22 +22,8 @@ public class GatherRessource implements FakeDeathTrait.AiGoal {
 
     @Override
     public boolean isAvailable() {
-        target = null;
-        double distance = Double.MAX_VALUE;
-
-        var entities = this.fakeDeathTrait.getNearbyEntities(50);
-        for (Entity entity : entities) {
-            if (entity instanceof Item) {
-                Item possibleTarget = (Item) entity;
-
-                double possibleDistance = possibleTarget.getLocation()
-                        .distance(this.fakeDeathTrait.getNPC().getEntity().getLocation());
-                if (possibleDistance < distance) {
-                    distance = possibleDistance;
-                    target = possibleTarget;
-                }
-            }
-        }
+        target = this.fakeDeathTrait.perception()
+                .getNearestItem(this.fakeDeathTrait.getNPC().getEntity().getLocation(), 50);
         return target != null;
     }
 
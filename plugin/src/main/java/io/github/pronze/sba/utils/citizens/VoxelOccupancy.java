@@ -0,0 +1,305 @@
+package io.github.pronze.sba.utils.citizens;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+import org.screamingsandals.bedwars.api.events.BedwarsPostRebuildingEvent;
+import org.screamingsandals.lib.tasker.DefaultThreads;
+import org.screamingsandals.lib.tasker.Tasker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers which blocks the AI players have looked at are passable and which are solid, so that bridging and
+ * pillaring checks do not query the world for the same blocks over and over.
+ * Blocks are stored as bits per chunk section and read from the world the first time they are queried. Block place
+ * and break events read the block again once the change is done, other block changes and chunk unloads forget them.
+ * Code setting blocks without firing an event reports them through {@link #blockChanged(Block)}, and every section
+ * is forgotten a few seconds after it was read so that changes nobody reported heal. Placing or teleporting re-reads
+ * the blocks involved with {@link #verifyEmpty(Block)}.
+ * Only accessed from the server thread.
+ */
+public class VoxelOccupancy implements Listener {
+    private static final int WORDS = 16 * 16 * 16 / 64;
+    private static final long SECTION_TTL_MILLIS = 5000L;
+    private static final BlockFace[] NEIGHBOURS = {
+            BlockFace.UP, BlockFace.DOWN, BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH, BlockFace.SOUTH
+    };
+
+    private static VoxelOccupancy instance;
+
+    private final Map<UUID, Map<Long, Section>> worlds = new HashMap<>();
+
+    public VoxelOccupancy() {
+        instance = this;
+    }
+
+    /**
+     * Forgets the block, to be called by code changing blocks without firing a block event.
+     * Does nothing when AI players are disabled.
+     */
+    public static void blockChanged(@NotNull Block block) {
+        if (instance != null) {
+            instance.forget(block);
+        }
+    }
+
+    /**
+     * @return whether an AI player can move through the block, air, water and lava are considered passable
+     */
+    public boolean isEmpty(@NotNull Block block) {
+        return isEmpty(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    public boolean isEmpty(@NotNull World world, int x, int y, int z) {
+        final var section = section(world, x, y, z);
+        final var index = index(x, y, z);
+        if (!section.isKnown(index)) {
+            section.set(index, world.getBlockAt(x, y, z).getType());
+        }
+        return section.isEmpty(index);
+    }
+
+    /**
+     * Reads the block from the world and updates the cache, to be used right before acting on a cached answer.
+     *
+     * @return whether the block is currently passable
+     */
+    public boolean verifyEmpty(@NotNull Block block) {
+        final var section = section(block.getWorld(), block.getX(), block.getY(), block.getZ());
+        final var index = index(block.getX(), block.getY(), block.getZ());
+        section.set(index, block.getType());
+        return section.isEmpty(index);
+    }
+
+    /**
+     * @return whether a block can be placed against the block
+     */
+    public boolean isSolid(@NotNull World world, int x, int y, int z) {
+        final var section = section(world, x, y, z);
+        final var index = index(x, y, z);
+        if (!section.isKnown(index)) {
+            section.set(index, world.getBlockAt(x, y, z).getType());
+        }
+        return section.isSolid(index);
+    }
+
+    public void clear(@NotNull World world) {
+        worlds.remove(world.getUID());
+    }
+
+    private void refresh(Block block) {
+        final var sections = worlds.get(block.getWorld().getUID());
+        if (sections == null) {
+            return;
+        }
+        final var section = sections.get(key(block.getX() >> 4, block.getY() >> 4, block.getZ() >> 4));
+        if (section != null) {
+            section.set(index(block.getX(), block.getY(), block.getZ()), block.getType());
+        }
+    }
+
+    private void forget(Block block) {
+        final var sections = worlds.get(block.getWorld().getUID());
+        if (sections == null) {
+            return;
+        }
+        final var section = sections.get(key(block.getX() >> 4, block.getY() >> 4, block.getZ() >> 4));
+        if (section != null) {
+            section.forget(index(block.getX(), block.getY(), block.getZ()));
+        }
+    }
+
+    private void forgetAround(Block block) {
+        forget(block);
+        for (var face : NEIGHBOURS) {
+            forget(block.getRelative(face));
+        }
+    }
+
+    private void forgetAll(List<Block> blocks) {
+        blocks.forEach(this::forgetAround);
+    }
+
+    private Section section(World world, int x, int y, int z) {
+        final var section = worlds.computeIfAbsent(world.getUID(), k -> new HashMap<>())
+                .computeIfAbsent(key(x >> 4, y >> 4, z >> 4), k -> new Section());
+        final var now = System.currentTimeMillis();
+        if (now - section.readAt > SECTION_TTL_MILLIS) {
+            // heals blocks changed without any event, such as rescue platforms and protection walls
+            section.clear(now);
+        }
+        return section;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        // the placed block is not final yet, BedWars may replace it (e.g. auto igniting TNT) and AI players set it
+        // after firing the event, so it is read again once the placement is done
+        final var block = event.getBlock();
+        forget(block);
+        Tasker.run(DefaultThreads.GLOBAL_THREAD, () -> refresh(block));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        // attached blocks such as the other half of a bed may break as well
+        final var block = event.getBlock();
+        forgetAround(block);
+        Tasker.run(DefaultThreads.GLOBAL_THREAD, () -> refresh(block));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        forgetAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        forgetAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        forget(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        forget(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        forget(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        forget(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        forget(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        forgetAround(event.getBlock());
+        event.getBlocks().forEach(block -> {
+            forget(block);
+            forget(block.getRelative(event.getDirection()));
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        forgetAround(event.getBlock());
+        event.getBlocks().forEach(block -> {
+            forget(block);
+            forget(block.getRelative(event.getDirection()));
+        });
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        final var sections = worlds.get(event.getWorld().getUID());
+        if (sections == null) {
+            return;
+        }
+        final var chunkX = event.getChunk().getX() & 0x1FFFFF;
+        final var chunkZ = event.getChunk().getZ() & 0x1FFFFF;
+        sections.keySet().removeIf(key -> (key >>> 42) == chunkX && (key & 0x1FFFFF) == chunkZ);
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        clear(event.getWorld());
+    }
+
+    @EventHandler
+    public void onPostRebuilding(BedwarsPostRebuildingEvent event) {
+        final var world = event.getGame().getGameWorld();
+        if (world != null) {
+            clear(world);
+        }
+    }
+
+    /**
+     * Three bits per block of a 16x16x16 section: whether the block has been read, is passable and is solid.
+     */
+    private static class Section {
+        private final long[] known = new long[WORDS];
+        private final long[] empty = new long[WORDS];
+        private final long[] solid = new long[WORDS];
+        private long readAt = System.currentTimeMillis();
+
+        private boolean isKnown(int index) {
+            return (known[index >> 6] & (1L << index)) != 0;
+        }
+
+        private boolean isEmpty(int index) {
+            return (empty[index >> 6] & (1L << index)) != 0;
+        }
+
+        private boolean isSolid(int index) {
+            return (solid[index >> 6] & (1L << index)) != 0;
+        }
+
+        private void set(int index, Material type) {
+            final var word = index >> 6;
+            final var bit = 1L << index;
+            known[word] |= bit;
+            if (type == Material.AIR || type == Material.WATER || type == Material.LAVA) {
+                empty[word] |= bit;
+            } else {
+                empty[word] &= ~bit;
+            }
+            if (type.isSolid()) {
+                solid[word] |= bit;
+            } else {
+                solid[word] &= ~bit;
+            }
+        }
+
+        private void forget(int index) {
+            known[index >> 6] &= ~(1L << index);
+        }
+
+        private void clear(long now) {
+            Arrays.fill(known, 0L);
+            readAt = now;
+        }
+    }
+}
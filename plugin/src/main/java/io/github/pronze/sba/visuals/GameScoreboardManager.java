@@ -4,6 +4,7 @@ import io.github.pronze.sba.MessageKeys;
 import io.github.pronze.sba.SBA;
 import io.github.pronze.sba.game.tasks.GeneratorTask;
 import io.github.pronze.sba.lib.lang.LanguageService;
+import io.github.pronze.sba.service.TimingsService;
 import io.github.pronze.sba.utils.DateUtils;
 
 import org.bukkit.Bukkit;
@@ -32,7 +33,21 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
     private final Game game;
     private final Arena arena;
     private final Map<UUID, Scoreboard> scoreboardMap = new HashMap<>();
-    private final List<String> scoreboard_lines = new ArrayList<>();
+    private final ScoreboardTemplate template;
+    private final String youMessage;
+    private final Map<UUID, List<String>> renderedLines = new HashMap<>();
+    /**
+     * Status fragment of every team keyed by team name, shared by all viewers of the arena.
+     * Cleared by {@link #invalidateTeamStatus()} whenever a bed, death or leave event may have changed it.
+     */
+    private final Map<String, String> teamStatusCache = new HashMap<>();
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private long sharedValuesTimestamp;
+    private String sharedTime = "";
+    private String sharedDate = "";
+    private String sharedTierName = "";
+    private String sharedTierTime = "";
+    private String sharedTier = "";
     protected BukkitTask updateTask;
 
     public GameScoreboardManager(Arena arena) {
@@ -40,17 +55,21 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
         game = (Game) Main.getInstance().getGameByName(arena.getGame().getName());
 
         if (game.countAvailableTeams() >= 5) {
-            scoreboard_lines.addAll(LanguageService
+            template = ScoreboardTemplate.compile(LanguageService
                     .getInstance()
                     .get(MessageKeys.SCOREBOARD_LINES_5)
                     .toStringList());
         } else {
-            scoreboard_lines.addAll(LanguageService
+            template = ScoreboardTemplate.compile(LanguageService
                     .getInstance()
                     .get(MessageKeys.SCOREBOARD_LINES_DEFAULT)
                     .toStringList());
         }
-        if (SBAConfig.getInstance().getBoolean("game-scoreboard.enabled", true))
+        youMessage = LanguageService
+                .getInstance()
+                .get(MessageKeys.SCOREBOARD_YOU_MESSAGE)
+                .toString();
+        if (SBAConfig.getInstance().snapshot().isGameScoreboardEnabled())
             game.getConnectedPlayers().forEach(this::createScoreboard);
     }
 
@@ -75,7 +94,10 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
                 .animationInterval(2L)
                 .animatedTitle(title)
                 .updateCallback(board -> {
+                    final var timings = TimingsService.getInstance();
+                    final var start = timings.start();
                     board.setLines(process(player, board));
+                    timings.stop("GameScoreboardManager", game.getName(), start);
                     return true;
                 })
                 .build();
@@ -115,11 +137,14 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
             }
             scoreboardMap.remove(player.getUniqueId());
         }
+        renderedLines.remove(player.getUniqueId());
     }
 
     public void destroy() {
         scoreboardMap.values().forEach(Scoreboard::destroy);
         scoreboardMap.clear();
+        renderedLines.clear();
+        teamStatusCache.clear();
         if (updateTask != null) {
             if (Bukkit.getScheduler().isCurrentlyRunning(updateTask.getTaskId())
                     || Bukkit.getScheduler().isQueued(updateTask.getTaskId())) {
@@ -129,8 +154,6 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
     }
 
     public List<String> process(Player player, Scoreboard board) {
-        final var holder = board.getHolder();
-        final var lines = new ArrayList<String>();
         final var optionalPlayerData = arena.getPlayerData(player.getUniqueId());
 
         if (optionalPlayerData.isEmpty()) {
@@ -149,74 +172,136 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
             }
         }
 
-        final var totalKills = String.valueOf(statistic.getKills());
-        final var currentKills = String.valueOf(playerData.getKills());
-        final var finalKills = String.valueOf(playerData.getFinalKills());
-        final var currentDeaths = String.valueOf(playerData.getDeaths());
-        final var currentBedDestroys = String.valueOf(playerData.getBedDestroys());
-        final var teamName = playerTeam == null ? "" : playerTeam.getName();
-        final var teamStatus = playerTeam != null ? getTeamBedStatus(playerTeam) : null;
-
-        scoreboard_lines.stream()
-                .filter(Objects::nonNull)
-                .forEach(line -> {
-                    if (line.contains("%team_status%")) {
-                        String finalLine = line;
-                        game.getAvailableTeams().forEach(t -> {
-                            String you = "";
-                            if (playerTeam != null) {
-                                if (playerTeam.getName().equalsIgnoreCase(t.getName())) {
-                                    you = LanguageService
-                                            .getInstance()
-                                            .get(MessageKeys.SCOREBOARD_YOU_MESSAGE)
-                                            .toString();
-                                }
-                            }
-                            lines.add(finalLine.replace("%team_status%",
-                                    getTeamStatusFormat(t).replace("%you%", you)));
-                        });
-                        return;
-                    }
-
-                    final var generatorTask = arena.getTask(GeneratorTask.class).orElseThrow();
-
-                    line = line
-                            .replace("%sba_version%", SBA.getInstance().getVersion())
-                            .replace("%team%", teamName)
-                            .replace("%beds%", currentBedDestroys)
-                            .replace("%dies%", currentDeaths)
-                            .replace("%totalkills%", totalKills)
-                            .replace("%finalkills%", finalKills)
-                            .replace("%kills%", currentKills)
-                            .replace("%time%", game.getFormattedTimeLeft())
-                            .replace("%formattime%", game.getFormattedTimeLeft())
-                            .replace("%game%", game.getName())
-                            .replace("%date%", DateUtils.getFormattedDate())
-                            .replace("%team_bed_status%", teamStatus == null ? "" : teamStatus)
-                            .replace("%tier_task%", generatorTask.getNextTierName())
-                            .replace("%tier_time%", generatorTask.getTimeLeftForNextEvent())
-                            .replace("%tier%", generatorTask.getNextTierName()
-                                    .replace("-", " ") + " in §a" + generatorTask.getTimeLeftForNextEvent());
-
-                    lines.add(line);
-                });
+        refreshSharedValues();
+        final var totalKills = statistic.getKills();
+        final var teamStatus = playerTeam != null ? getTeamBedStatus(playerTeam) : "";
+        final var you = new String[1];
+        final var currentTeamStatus = new String[1];
+        final ScoreboardTemplate.Resolver resolver = placeholder -> {
+            switch (placeholder) {
+                case SBA_VERSION:
+                    return SBA.getInstance().getVersion();
+                case TEAM:
+                    return playerTeam == null ? "" : playerTeam.getName();
+                case BEDS:
+                    return String.valueOf(playerData.getBedDestroys());
+                case DIES:
+                    return String.valueOf(playerData.getDeaths());
+                case TOTAL_KILLS:
+                    return String.valueOf(totalKills);
+                case FINAL_KILLS:
+                    return String.valueOf(playerData.getFinalKills());
+                case KILLS:
+                    return String.valueOf(playerData.getKills());
+                case TIME:
+                case FORMAT_TIME:
+                    return sharedTime;
+                case GAME:
+                    return game.getName();
+                case DATE:
+                    return sharedDate;
+                case TEAM_BED_STATUS:
+                    return teamStatus;
+                case TIER_TASK:
+                    return sharedTierName;
+                case TIER_TIME:
+                    return sharedTierTime;
+                case TIER:
+                    return sharedTier;
+                case TEAM_STATUS:
+                    return currentTeamStatus[0].replace("%you%", you[0]);
+                default:
+                    return "";
+            }
+        };
+
+        final var previous = renderedLines.getOrDefault(player.getUniqueId(), List.of());
+        final var lines = new ArrayList<String>(previous.size());
+        boolean changed = false;
+        for (var line : template.getLines()) {
+            if (line.isTeamStatus()) {
+                for (var t : game.getAvailableTeams()) {
+                    you[0] = playerTeam != null && playerTeam.getName().equalsIgnoreCase(t.getName()) ? youMessage : "";
+                    currentTeamStatus[0] = teamStatusCache.computeIfAbsent(t.getName(), k -> getTeamStatusFormat(t));
+                    changed |= renderLine(line, resolver, previous, lines);
+                }
+                continue;
+            }
+            changed |= renderLine(line, resolver, previous, lines);
+        }
+
+        if (!changed && lines.size() == previous.size()) {
+            return previous;
+        }
+        renderedLines.put(player.getUniqueId(), lines);
         return lines;
     }
 
-    private String getTeamBedStatus(RunningTeam team) {
-        return team.isDead() ? SBAConfig.getInstance().node("team-status", "target-destroyed").getString("§c\u2717")
-                : SBAConfig.getInstance().node("team-status", "target-exists").getString("§a\u2713");
+    /**
+     * Discards the cached team status fragments, they are recomputed on the next scoreboard update.
+     */
+    public void invalidateTeamStatus() {
+        teamStatusCache.clear();
     }
 
-    private String getTeamStatusFormat(RunningTeam team) {
-        String alive = SBAConfig.getInstance().teamStatus().alive();
+    /**
+     * Renders the line into the reusable builder and appends it to {@code lines}, reusing the previously rendered
+     * string when the content did not change.
+     *
+     * @return true if the rendered line differs from the previous render
+     */
+    private boolean renderLine(ScoreboardTemplate.CompiledLine line, ScoreboardTemplate.Resolver resolver,
+                               List<String> previous, List<String> lines) {
+        final var index = lines.size();
+        final var old = index < previous.size() ? previous.get(index) : null;
+        if (!line.isDynamic() && old != null) {
+            lines.add(old);
+            return false;
+        }
+        lineBuilder.setLength(0);
+        line.render(lineBuilder, resolver);
+        if (old != null && old.contentEquals(lineBuilder)) {
+            lines.add(old);
+            return false;
+        }
+        lines.add(lineBuilder.toString());
+        return true;
+    }
 
-        String destroyed = SBAConfig.getInstance().teamStatus().destroyed();
+    /**
+     * Computes the values which are identical for every viewer of the arena, at most once per tick.
+     */
+    private void refreshSharedValues() {
+        final var now = System.currentTimeMillis();
+        if (now - sharedValuesTimestamp < 50L) {
+            return;
+        }
+        sharedValuesTimestamp = now;
+
+        sharedTime = game.getFormattedTimeLeft();
+        sharedDate = DateUtils.getFormattedDate();
+        final var generatorTask = arena.getTask(GeneratorTask.class).orElse(null);
+        if (generatorTask != null) {
+            sharedTierName = generatorTask.getNextTierName();
+            sharedTierTime = generatorTask.getTimeLeftForNextEvent();
+            sharedTier = sharedTierName.replace("-", " ") + " in §a" + sharedTierTime;
+        } else {
+            sharedTierName = "";
+            sharedTierTime = "";
+            sharedTier = "";
+        }
+    }
 
-        String eliminated = SBAConfig.getInstance().teamStatus().eliminated();
+    private String getTeamBedStatus(RunningTeam team) {
+        final var config = SBAConfig.getInstance().snapshot();
+        return team.isDead() ? config.getTeamTargetDestroyed() : config.getTeamTargetExists();
+    }
+
+    private String getTeamStatusFormat(RunningTeam team) {
+        final var config = SBAConfig.getInstance().snapshot();
 
-        String status = team.isTargetBlockExists() ? alive
-                : (team.getConnectedPlayers().size() > 0) ? destroyed : eliminated;
+        String status = team.isTargetBlockExists() ? config.getTeamAlive()
+                : (team.getConnectedPlayers().size() > 0) ? config.getTeamDestroyed() : config.getTeamEliminated();
 
         String formattedTeam = TeamColor
                 .valueOf(team.getColor().name()).chatColor
@@ -243,8 +328,8 @@ public class GameScoreboardManager implements io.github.pronze.sba.manager.Score
                 .orElseGet(() -> {
                     final var destroyed = SBAConfig
                             .getInstance()
-                            .node("team-status", "eliminated")
-                            .getString("%color% %team% §c\u2718 %you%");
+                            .snapshot()
+                            .getTeamEliminated();
 
                     final var formattedTeam = TeamColor
                             .valueOf(team.getColor().name()).chatColor.toString()
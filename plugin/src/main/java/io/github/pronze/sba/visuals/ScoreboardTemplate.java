@@ -0,0 +1,159 @@
+package io.github.pronze.sba.visuals;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Scoreboard lines parsed once into literal and placeholder segments.
+ * Unknown %placeholders% are kept as literal text so that PlaceholderAPI can still resolve them later on.
+ */
+public class ScoreboardTemplate {
+    private final List<CompiledLine> lines;
+
+    private ScoreboardTemplate(List<CompiledLine> lines) {
+        this.lines = lines;
+    }
+
+    public static ScoreboardTemplate compile(@NotNull List<String> rawLines) {
+        final var compiled = new ArrayList<CompiledLine>(rawLines.size());
+        rawLines.stream()
+                .filter(Objects::nonNull)
+                .map(CompiledLine::parse)
+                .forEach(compiled::add);
+        return new ScoreboardTemplate(List.copyOf(compiled));
+    }
+
+    @NotNull
+    public List<CompiledLine> getLines() {
+        return lines;
+    }
+
+    public enum Placeholder {
+        SBA_VERSION("sba_version", false),
+        TEAM("team", true),
+        BEDS("beds", true),
+        DIES("dies", true),
+        TOTAL_KILLS("totalkills", true),
+        FINAL_KILLS("finalkills", true),
+        KILLS("kills", true),
+        TIME("time", true),
+        FORMAT_TIME("formattime", true),
+        GAME("game", false),
+        DATE("date", true),
+        TEAM_BED_STATUS("team_bed_status", true),
+        TIER_TASK("tier_task", true),
+        TIER_TIME("tier_time", true),
+        TIER("tier", true),
+        TEAM_STATUS("team_status", true);
+
+        private static final Map<String, Placeholder> BY_KEY = new HashMap<>();
+
+        static {
+            for (var placeholder : values()) {
+                BY_KEY.put(placeholder.key, placeholder);
+            }
+        }
+
+        private final String key;
+        private final boolean dynamic;
+
+        Placeholder(String key, boolean dynamic) {
+            this.key = key;
+            this.dynamic = dynamic;
+        }
+
+        /**
+         * @return false if the value of this placeholder never changes during a game
+         */
+        public boolean isDynamic() {
+            return dynamic;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Resolver {
+        String resolve(@NotNull Placeholder placeholder);
+    }
+
+    public static class CompiledLine {
+        /**
+         * Literal text preceding each placeholder, the last element is the trailing text of the line.
+         */
+        private final String[] literals;
+        private final Placeholder[] placeholders;
+        private final boolean dynamic;
+        private final boolean teamStatus;
+
+        private CompiledLine(String[] literals, Placeholder[] placeholders) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+            boolean dynamic = false;
+            boolean teamStatus = false;
+            for (var placeholder : placeholders) {
+                dynamic |= placeholder.isDynamic();
+                teamStatus |= placeholder == Placeholder.TEAM_STATUS;
+            }
+            this.dynamic = dynamic;
+            this.teamStatus = teamStatus;
+        }
+
+        static CompiledLine parse(String line) {
+            final var literals = new ArrayList<String>();
+            final var placeholders = new ArrayList<Placeholder>();
+            final var literal = new StringBuilder();
+            int i = 0;
+            while (i < line.length()) {
+                final var start = line.indexOf('%', i);
+                final var end = start < 0 ? -1 : line.indexOf('%', start + 1);
+                if (end < 0) {
+                    literal.append(line, i, line.length());
+                    break;
+                }
+                final var placeholder = Placeholder.BY_KEY.get(line.substring(start + 1, end));
+                if (placeholder == null) {
+                    // the closing % may open the next placeholder
+                    literal.append(line, i, end);
+                    i = end;
+                    continue;
+                }
+                literal.append(line, i, start);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                placeholders.add(placeholder);
+                i = end + 1;
+            }
+            literals.add(literal.toString());
+            return new CompiledLine(literals.toArray(String[]::new), placeholders.toArray(Placeholder[]::new));
+        }
+
+        /**
+         * @return true if the line contains at least one placeholder which may change during a game
+         */
+        public boolean isDynamic() {
+            return dynamic;
+        }
+
+        /**
+         * @return true if the line has to be repeated for every team of the game
+         */
+        public boolean isTeamStatus() {
+            return teamStatus;
+        }
+
+        public void render(@NotNull StringBuilder builder, @NotNull Resolver resolver) {
+            for (int i = 0; i < placeholders.length; i++) {
+                builder.append(literals[i]);
+                final var value = resolver.resolve(placeholders[i]);
+                if (value != null) {
+                    builder.append(value);
+                }
+            }
+            builder.append(literals[placeholders.length]);
+        }
+    }
+}